@@ -0,0 +1,99 @@
+package com.community.back.domain.review.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 한 페이지(10건)의 잔디 상태 매핑 비용 비교
+ * - legacy*: 기존 ReviewResponse.from 경로 (호출마다 new ObjectMapper + JSON 파싱)
+ * - sharedMapper*: ObjectMapper만 재사용한 경우
+ * - bitmask*: GrassConditions 비트마스크 디코딩/인코딩
+ *
+ * 실행: ./gradlew jmh  (-prof gc 옵션으로 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrassConditionsBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final TypeReference<List<String>> LABELS = new TypeReference<>() {};
+    private static final String[] TAGS = Arrays.stream(GrassConditionTag.values())
+            .map(GrassConditionTag::getLabel)
+            .toArray(String[]::new);
+
+    private final ObjectMapper sharedMapper = new ObjectMapper();
+    private String[] jsonPage;
+    private long[] maskPage;
+    private List<List<String>> labelPage;
+
+    @Setup
+    public void setUp() throws Exception {
+        jsonPage = new String[PAGE_SIZE];
+        maskPage = new long[PAGE_SIZE];
+        labelPage = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            List<String> labels = List.of(
+                    TAGS[i % TAGS.length],
+                    TAGS[(i * 5 + 3) % TAGS.length]);
+            labelPage.add(labels);
+            jsonPage[i] = sharedMapper.writeValueAsString(labels);
+            maskPage[i] = GrassConditions.ofLabels(labels).getMask();
+        }
+    }
+
+    @Benchmark
+    public void legacyDecodePage(Blackhole blackhole) throws Exception {
+        for (String json : jsonPage) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            blackhole.consume(objectMapper.readValue(json, LABELS));
+        }
+    }
+
+    @Benchmark
+    public void sharedMapperDecodePage(Blackhole blackhole) throws Exception {
+        for (String json : jsonPage) {
+            blackhole.consume(sharedMapper.readValue(json, LABELS));
+        }
+    }
+
+    @Benchmark
+    public void bitmaskDecodePage(Blackhole blackhole) {
+        for (long mask : maskPage) {
+            blackhole.consume(GrassConditions.ofMask(mask).getLabels());
+        }
+    }
+
+    @Benchmark
+    public void legacyEncodePage(Blackhole blackhole) throws Exception {
+        for (List<String> labels : labelPage) {
+            blackhole.consume(sharedMapper.writeValueAsString(labels));
+        }
+    }
+
+    @Benchmark
+    public void bitmaskEncodePage(Blackhole blackhole) {
+        for (List<String> labels : labelPage) {
+            blackhole.consume(GrassConditions.ofLabels(labels).getMask());
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.community.back.global.security.jwt;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 건당 JwtAuthenticationFilter 비용 비교
+ * - baseline: 변경 전 필터/토큰 제공자 복사본 (헤더 추출, INFO 로그 3회, validateToken + get*FromToken으로
+ *   호출마다 parserBuilder 생성 후 서명 검증/파싱 4회)
+ * - parseOnce: 미리 만든 파서로 한 번만 검증/파싱 (캐시 없음, 새 토큰의 첫 요청)
+ * - cached: 검증된 클레임 캐시 적중 (같은 토큰의 반복 요청)
+ * - cachedContended: 8개 스레드가 동시에 캐시 적중 (캐시 조회 경합 확인)
+ *
+ * 로그는 애플리케이션 기본값(INFO)으로 두고 출력만 버리는 appender로 보내 포맷 비용은 포함, I/O 비용은 제외
+ *
+ * 실행: ./gradlew jmhJar && java -jar build/libs/*-jmh.jar JwtAuthenticationFilterBenchmark  (-prof gc 옵션으로 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private String token;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private BaselineJwtAuthenticationFilter baselineFilter;
+    private JwtAuthenticationFilter parseOnceFilter;
+    private JwtAuthenticationFilter cachedFilter;
+
+    @Setup
+    public void setUp() {
+        discardLogOutput();
+
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, TimeUnit.HOURS.toMillis(1));
+        token = provider.createAccessToken(1L, "user@example.com", "USER");
+
+        request = stubRequest("Bearer " + token);
+        response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class}, (proxy, method, args) -> defaultValue(method.getReturnType()));
+
+        baselineFilter = new BaselineJwtAuthenticationFilter(new BaselineJwtTokenProvider(SECRET));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // 크기 0 캐시는 저장 즉시 제거되어 매번 검증
+        parseOnceFilter = new JwtAuthenticationFilter(provider, new JwtClaimsCache(registry, 0));
+        cachedFilter = new JwtAuthenticationFilter(provider, new JwtClaimsCache(registry, 10_000));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication baseline() throws Exception {
+        SecurityContextHolder.clearContext();
+        baselineFilter.doFilterInternal(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Authentication parseOnce() throws Exception {
+        return filter(parseOnceFilter);
+    }
+
+    @Benchmark
+    public Authentication cached() throws Exception {
+        return filter(cachedFilter);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Authentication cachedContended() throws Exception {
+        return filter(cachedFilter);
+    }
+
+    private Authentication filter(JwtAuthenticationFilter filter) throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilterInternal(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    /**
+     * 루트 로거를 INFO로 두고 패턴 포맷까지 수행한 뒤 출력은 버림 (콘솔 I/O가 측정값을 지배하지 않도록)
+     */
+    private static void discardLogOutput() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(Level.INFO);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%t] %logger{39} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        root.addAppender(appender);
+    }
+
+    /**
+     * Authorization 헤더만 가진 요청 (서블릿 컨테이너 없이 필터 호출)
+     */
+    private static HttpServletRequest stubRequest(String authorization) {
+        return (HttpServletRequest) Proxy.newProxyInstance(JwtAuthenticationFilterBenchmark.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getHeader") && "Authorization".equals(args[0])) {
+                        return authorization;
+                    }
+                    if (method.getName().equals("getRemoteAddr")) {
+                        return "127.0.0.1";
+                    }
+                    return defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    /**
+     * 변경 전 JwtAuthenticationFilter 복사본 (비교 기준)
+     */
+    static class BaselineJwtAuthenticationFilter extends OncePerRequestFilter {
+
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger(BaselineJwtAuthenticationFilter.class);
+
+        private final BaselineJwtTokenProvider jwtTokenProvider;
+
+        BaselineJwtAuthenticationFilter(BaselineJwtTokenProvider jwtTokenProvider) {
+            this.jwtTokenProvider = jwtTokenProvider;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            try {
+                String jwt = getJwtFromRequest(request);
+                log.info("JWT Token from request: {}", jwt != null ? "Present (length: " + jwt.length() + ")" : "Not present");
+
+                if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+                    String userId = jwtTokenProvider.getUserIdFromToken(jwt);
+                    String email = jwtTokenProvider.getEmailFromToken(jwt);
+                    String role = jwtTokenProvider.getRoleFromToken(jwt);
+
+                    log.info("Extracted from JWT - userId: {}, email: {}, role: {}", userId, email, role);
+
+                    List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+                    if (role != null) {
+                        authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+                    }
+
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userId, null, authorities);
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.info("Set Authentication for user: {} with role: {}", userId, role);
+                } else {
+                    log.warn("JWT validation failed or token is empty");
+                }
+            } catch (Exception ex) {
+                log.error("Could not set user authentication in security context", ex);
+            }
+
+            filterChain.doFilter(request, response);
+        }
+
+        private String getJwtFromRequest(HttpServletRequest request) {
+            String bearerToken = request.getHeader("Authorization");
+            if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+                return bearerToken.substring(7);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 변경 전 JwtTokenProvider의 검증/조회 메서드 복사본 (호출마다 parserBuilder 생성 후 서명 검증/파싱)
+     */
+    static class BaselineJwtTokenProvider {
+
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger(BaselineJwtTokenProvider.class);
+
+        private final Key key;
+
+        BaselineJwtTokenProvider(String secretKey) {
+            this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        }
+
+        boolean validateToken(String token) {
+            try {
+                Jwts.parserBuilder()
+                        .setSigningKey(key)
+                        .build()
+                        .parseClaimsJws(token);
+                return true;
+            } catch (SecurityException | MalformedJwtException e) {
+                log.error("Invalid JWT signature: {}", e.getMessage());
+            } catch (ExpiredJwtException e) {
+                log.error("Expired JWT token: {}", e.getMessage());
+            } catch (UnsupportedJwtException e) {
+                log.error("Unsupported JWT token: {}", e.getMessage());
+            } catch (IllegalArgumentException e) {
+                log.error("JWT claims string is empty: {}", e.getMessage());
+            }
+            return false;
+        }
+
+        String getUserIdFromToken(String token) {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            return claims.getSubject();
+        }
+
+        String getEmailFromToken(String token) {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            return claims.get("email", String.class);
+        }
+
+        String getRoleFromToken(String token) {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            return claims.get("role", String.class);
+        }
+    }
+}
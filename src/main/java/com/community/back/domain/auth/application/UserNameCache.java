@@ -0,0 +1,202 @@
+package com.community.back.domain.auth.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자 이름 캐시 (userId → name)
+ * - 이름 길이 기반 추정 바이트로 크기 제한, 초과 시 가장 오래 사용되지 않은 항목부터 제거
+ * - 빈도 기반 입장 정책: 가득 찬 상태에서 새 항목은 제거될 항목보다 최근 조회 빈도가 높을 때만 저장
+ *   (한 번 보고 마는 사용자가 자주 보이는 작성자를 밀어내지 않도록)
+ * - 사용자 이름 변경/삭제 시 UserNameChangedEvent 커밋 이후 {@link UserNameCacheInvalidator}가 무효화
+ */
+@Component
+public class UserNameCache {
+
+    // 항목당 고정 비용 (키, 엔트리, 문자열 헤더 추정치)
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final long maxWeight;
+    private final LinkedHashMap<Long, String> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long weight;
+    private long generation;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Counter rejectionCounter;
+
+    public UserNameCache(MeterRegistry meterRegistry,
+                         @Value("${user.name-cache.max-weight-bytes:4194304}") long maxWeight) {
+        this.maxWeight = maxWeight;
+        this.sketch = new FrequencySketch((int) Math.max(64, maxWeight / ENTRY_OVERHEAD_BYTES));
+        this.hitCounter = meterRegistry.counter("user.name.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("user.name.cache.requests", "result", "miss");
+        this.evictionCounter = meterRegistry.counter("user.name.cache.evictions");
+        this.rejectionCounter = meterRegistry.counter("user.name.cache.rejections");
+        meterRegistry.gauge("user.name.cache.size", this, cache -> cache.size());
+        meterRegistry.gauge("user.name.cache.weight.bytes", this, cache -> cache.weight());
+    }
+
+    /**
+     * 캐시 조회 (조회 빈도 기록)
+     * @return 캐시된 이름, 없으면 null
+     */
+    public synchronized String get(Long userId) {
+        sketch.increment(userId);
+        String name = entries.get(userId);
+        if (name != null) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return name;
+    }
+
+    /**
+     * 현재 무효화 세대
+     * - DB 조회 전에 읽어 두고 {@link #put}에 넘기면, 조회 도중 무효화된 경우 오래된 값을 저장하지 않음
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 캐시 저장 (입장 정책 적용)
+     * @param generation 조회 시작 시점의 {@link #generation()}
+     */
+    public synchronized void put(Long userId, String name, long generation) {
+        if (name == null || generation != this.generation) {
+            return;
+        }
+
+        long entryWeight = weigh(name);
+        String previous = entries.get(userId);
+        if (previous != null) {
+            weight -= weigh(previous);
+        } else if (weight + entryWeight > maxWeight && !admit(userId)) {
+            rejectionCounter.increment();
+            return;
+        }
+
+        entries.put(userId, name);
+        weight += entryWeight;
+        evictToFit(userId);
+    }
+
+    /**
+     * 단일 사용자 무효화
+     */
+    public synchronized void invalidate(Long userId) {
+        generation++;
+        String removed = entries.remove(userId);
+        if (removed != null) {
+            weight -= weigh(removed);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * 후보가 제거될 항목(LRU 순서 첫 항목)보다 자주 조회되었는지 확인
+     */
+    private boolean admit(Long candidate) {
+        if (entries.isEmpty()) {
+            return true;
+        }
+        Long victim = entries.keySet().iterator().next();
+        return sketch.frequency(candidate) > sketch.frequency(victim);
+    }
+
+    private void evictToFit(Long keep) {
+        Iterator<Map.Entry<Long, String>> iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Map.Entry<Long, String> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            weight -= weigh(eldest.getValue());
+            iterator.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    private static long weigh(String name) {
+        return ENTRY_OVERHEAD_BYTES + 2L * name.length();
+    }
+
+    /**
+     * 조회 빈도 추정 (Count-Min Sketch, 4비트 상한)
+     * - 샘플 수가 폭의 10배에 도달하면 모든 카운터를 절반으로 줄여 오래된 빈도를 잊음
+     */
+    static final class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final long[] SEEDS = {
+                0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+        };
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int expectedEntries) {
+            int width = Integer.highestOneBit(Math.max(16, Math.min(expectedEntries, 1 << 22)) - 1) << 1;
+            this.counters = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = width * 10;
+        }
+
+        void increment(long key) {
+            boolean added = false;
+            for (int row = 0; row < DEPTH; row++) {
+                int index = index(key, row);
+                if (counters[row][index] < MAX_COUNT) {
+                    counters[row][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(long key) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                min = Math.min(min, counters[row][index(key, row)]);
+            }
+            return min;
+        }
+
+        private int index(long key, int row) {
+            long hash = (key + SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+            hash ^= hash >>> 29;
+            return (int) hash & mask;
+        }
+
+        private void reset() {
+            for (byte[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (row[i] >>> 1);
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.community.back.domain.auth.application;
+
+import com.community.back.domain.auth.domain.event.UserNameChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자 이름 변경/삭제 커밋 이후 이름 캐시 무효화
+ * - 커밋 전에 다른 요청이 옛 이름을 읽어 두었더라도 UserNameCache의 세대 확인으로 다시 저장되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class UserNameCacheInvalidator {
+
+    private final UserNameCache userNameCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserNameChanged(UserNameChangedEvent event) {
+        userNameCache.invalidate(event.userId());
+    }
+}
@@ -0,0 +1,79 @@
+package com.community.back.domain.auth.application;
+
+import com.community.back.domain.auth.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 작성자 이름 일괄 조회
+ * - 목록의 고유 사용자 ID를 모아 IN 쿼리 한 번으로 이름을 조회 (행마다 findById 하던 N+1 제거)
+ * - {@link UserNameCache}에 있는 이름은 쿼리 없이 사용하고, 캐시에 없는 ID만 조회
+ * - 존재하지 않는 사용자는 "알 수 없음"으로 채워 반환
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserNameResolver {
+
+    public static final String UNKNOWN_NAME = "알 수 없음";
+
+    private final UserRepository userRepository;
+    private final UserNameCache userNameCache;
+
+    /**
+     * 사용자 ID 목록의 이름 일괄 조회
+     * @param userIds 사용자 ID 목록 (중복, null 허용)
+     * @return 요청한 모든 ID를 키로 갖는 이름 맵
+     */
+    public Map<Long, String> resolveAll(Collection<Long> userIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>();
+        for (Long userId : userIds) {
+            if (userId != null) {
+                distinctIds.add(userId);
+            }
+        }
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> names = new HashMap<>(distinctIds.size() * 2);
+        List<Long> missingIds = new ArrayList<>();
+        for (Long userId : distinctIds) {
+            String cached = userNameCache.get(userId);
+            if (cached != null) {
+                names.put(userId, cached);
+            } else {
+                missingIds.add(userId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            long generation = userNameCache.generation();
+            userRepository.findNamesByUserIdIn(missingIds).forEach(view -> {
+                names.put(view.getUserId(), view.getName());
+                userNameCache.put(view.getUserId(), view.getName(), generation);
+            });
+        }
+        distinctIds.forEach(userId -> names.putIfAbsent(userId, UNKNOWN_NAME));
+        return names;
+    }
+
+    /**
+     * 단일 사용자 이름 조회
+     */
+    public String resolve(Long userId) {
+        if (userId == null) {
+            return UNKNOWN_NAME;
+        }
+        return resolveAll(List.of(userId)).get(userId);
+    }
+}
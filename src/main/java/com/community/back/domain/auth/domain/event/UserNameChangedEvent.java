@@ -0,0 +1,9 @@
+package com.community.back.domain.auth.domain.event;
+
+/**
+ * 사용자 이름 변경 이벤트
+ * - 사용자 이름을 바꾸거나 사용자를 삭제하는 서비스가 발행하며, 커밋 이후 이름 캐시 무효화에 사용
+ * @param userId 이름이 변경(또는 삭제)된 사용자 ID
+ */
+public record UserNameChangedEvent(Long userId) {
+}
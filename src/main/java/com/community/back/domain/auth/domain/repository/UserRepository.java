@@ -2,12 +2,28 @@ package com.community.back.domain.auth.domain.repository;
 
 import com.community.back.domain.auth.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /**
+     * 여러 사용자 이름 일괄 조회 (IN 쿼리, 이름 컬럼만)
+     */
+    @Query("select u.userId as userId, u.name as name from User u where u.userId in :userIds")
+    List<UserNameView> findNamesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    interface UserNameView {
+        Long getUserId();
+
+        String getName();
+    }
 }
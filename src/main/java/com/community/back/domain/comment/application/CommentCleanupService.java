@@ -0,0 +1,185 @@
+package com.community.back.domain.comment.application;
+
+import com.community.back.domain.comment.domain.event.CommentDeletedEvent;
+import com.community.back.domain.comment.domain.repository.CommentRepository;
+import com.community.back.domain.review.domain.event.ReviewChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰/최상위 댓글 삭제 후 남은 댓글을 정리하는 작업기
+ * - 삭제 요청 트랜잭션은 리뷰(또는 댓글) 한 행만 지우고, 커밋 이후 백그라운드에서 하위 댓글을 삭제
+ * - "DELETE ... WHERE review_id = ? (parent_id = ?) LIMIT n"을 청크마다 별도 트랜잭션으로 실행하여
+ *   댓글이 많은 리뷰도 행 잠금을 짧게 유지
+ * - 같은 조건을 다시 실행해도 남은 행만 지워지므로 재시도/중복 실행에 안전
+ * - 정리 대상은 메모리에만 있으므로 재시작/실패로 잃은 대상은 기동 시와 주기적으로
+ *   리뷰 또는 최상위 댓글이 없는 댓글을 청크 단위로 찾아 삭제
+ */
+@Slf4j
+@Component
+public class CommentCleanupService {
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long sweepIntervalMillis;
+
+    private static final long RETRY_DELAY_MILLIS = 5_000L;
+
+    // 대기/실행 중인 정리 대상 (같은 대상의 중복 예약 방지)
+    private final Set<Target> scheduled = ConcurrentHashMap.newKeySet();
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final Counter deletedCounter;
+    private final Counter failureCounter;
+
+    /**
+     * 정리 대상: 리뷰의 모든 댓글 또는 최상위 댓글의 대댓글
+     */
+    private record Target(Kind kind, Long id) {
+    }
+
+    private enum Kind {
+        REVIEW,
+        PARENT
+    }
+
+    public CommentCleanupService(CommentRepository commentRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${comment.cleanup.chunk-size:500}") int chunkSize,
+                                 @Value("${comment.cleanup.sweep-interval-ms:3600000}") long sweepIntervalMillis,
+                                 @Value("${comment.cleanup.threads:1}") int threads) {
+        this.commentRepository = commentRepository;
+        // 커밋 이후 콜백에서 호출되더라도 청크마다 독립적으로 커밋되도록 REQUIRES_NEW
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "comment-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.deletedCounter = meterRegistry.counter("comment.cleanup.deleted");
+        this.failureCounter = meterRegistry.counter("comment.cleanup.failures");
+        meterRegistry.gauge("comment.cleanup.pending", scheduled, set -> set.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.type() == ReviewChangedEvent.Type.DELETED) {
+            schedule(new Target(Kind.REVIEW, event.reviewId()), 0L);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        if (event.root()) {
+            schedule(new Target(Kind.PARENT, event.commentId()), 0L);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::sweep, 0L, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        if (!scheduled.isEmpty()) {
+            log.warn("Comment cleanup interrupted with {} targets pending: {}", scheduled.size(), scheduled);
+        }
+    }
+
+    private void schedule(Target target, long delayMillis) {
+        if (scheduled.add(target)) {
+            executor.schedule(() -> run(target), delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void run(Target target) {
+        long total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = deleteChunk(target);
+                total += deleted;
+                deletedCounter.increment(deleted);
+            } while (deleted >= chunkSize && !executor.isShutdown());
+            scheduled.remove(target);
+            if (deleted >= chunkSize) {
+                log.warn("Comment cleanup of {} {} stopped by shutdown after {} rows", target.kind(), target.id(), total);
+            } else {
+                log.info("Cleaned up {} comments of {} {}", total, target.kind(), target.id());
+            }
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            scheduled.remove(target);
+            if (executor.isShutdown()) {
+                log.error("Dropped comment cleanup of {} {} during shutdown", target.kind(), target.id(), e);
+                return;
+            }
+            // 이미 지운 청크는 커밋되었으므로 남은 행부터 다시 시도
+            log.error("Failed to clean up comments of {} {} after {} rows, retrying",
+                    target.kind(), target.id(), total, e);
+            schedule(target, RETRY_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * 리뷰가 없는 댓글부터 지운 뒤 최상위 댓글이 없는 대댓글 삭제
+     */
+    private void sweep() {
+        try {
+            long total = sweep(Kind.REVIEW) + sweep(Kind.PARENT);
+            if (total > 0) {
+                log.info("Swept {} orphan comments", total);
+            }
+        } catch (RuntimeException e) {
+            // 이미 지운 청크는 커밋되었으므로 다음 주기에 남은 행부터 다시 시도
+            failureCounter.increment();
+            log.error("Failed to sweep orphan comments", e);
+        }
+    }
+
+    private long sweep(Kind kind) {
+        long total = 0;
+        int deleted;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> switch (kind) {
+                case REVIEW -> commentRepository.deleteOrphanChunkOfReviews(chunkSize);
+                case PARENT -> commentRepository.deleteOrphanChunkOfParents(chunkSize);
+            });
+            deleted = chunk == null ? 0 : chunk;
+            total += deleted;
+            deletedCounter.increment(deleted);
+        } while (deleted >= chunkSize && !executor.isShutdown());
+        return total;
+    }
+
+    private int deleteChunk(Target target) {
+        Integer deleted = transactionTemplate.execute(status -> switch (target.kind()) {
+            case REVIEW -> commentRepository.deleteChunkByReviewId(target.id(), chunkSize);
+            case PARENT -> commentRepository.deleteChunkByParentId(target.id(), chunkSize);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -0,0 +1,82 @@
+package com.community.back.domain.comment.application;
+
+import com.community.back.domain.comment.domain.repository.CommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기존 대댓글로부터 최상위 댓글의 대댓글 수(reply_count) 계산
+ * - 컬럼 추가 전부터 있던 댓글은 reply_count_backfilled = false로 시작하며, 그동안 증감분은 반영되지 않음
+ * - 기동 후 별도 스레드에서 comment_id 키셋으로 대상을 찾고, 댓글마다 한 트랜잭션에서
+ *   최상위 댓글 행 잠금 → 대댓글 공유 잠금 집계 → 저장 및 완료 표시
+ *   (대댓글 작성/삭제도 최상위 댓글 행을 먼저 잠그므로 계산과 증감분 반영이 겹치지 않음)
+ * - 완료 표시가 된 댓글은 건너뛰므로 중단 후 재기동해도 남은 댓글부터 이어서 진행
+ */
+@Slf4j
+@Component
+public class CommentReplyCountBackfill {
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CommentReplyCountBackfill(CommentRepository commentRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${comment.reply-count.backfill-chunk-size:500}") int chunkSize) {
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::backfill, "comment-reply-count-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void backfill() {
+        long lastCommentId = 0L;
+        int backfilled = 0;
+        try {
+            while (true) {
+                List<Long> commentIds = commentRepository.findReplyCountBackfillTargets(lastCommentId, chunkSize);
+                if (commentIds.isEmpty()) {
+                    break;
+                }
+                for (Long commentId : commentIds) {
+                    if (backfill(commentId)) {
+                        backfilled++;
+                    }
+                    lastCommentId = commentId;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Comment reply count backfill stopped after comment {}", lastCommentId, e);
+            return;
+        }
+
+        if (backfilled > 0) {
+            log.info("Backfilled reply counts of {} comments", backfilled);
+        }
+    }
+
+    private boolean backfill(Long commentId) {
+        Boolean done = transactionTemplate.execute(status -> {
+            Boolean backfilled = commentRepository.lockReplyCountBackfilled(commentId);
+            if (backfilled == null || backfilled) {
+                return false;
+            }
+            commentRepository.backfillReplyCount(commentId, commentRepository.countRepliesForShare(commentId));
+            return true;
+        });
+        return Boolean.TRUE.equals(done);
+    }
+}
@@ -1,21 +1,34 @@
 package com.community.back.domain.comment.application;
 
+import com.community.back.domain.auth.application.UserNameResolver;
 import com.community.back.domain.comment.domain.Comment;
+import com.community.back.domain.comment.domain.event.CommentDeletedEvent;
 import com.community.back.domain.comment.domain.repository.CommentRepository;
 import com.community.back.domain.comment.domain.service.CommentDomainService;
 import com.community.back.domain.comment.presentation.dto.request.CreateCommentRequest;
 import com.community.back.domain.comment.presentation.dto.request.UpdateCommentRequest;
 import com.community.back.domain.comment.presentation.dto.response.CommentResponse;
+import com.community.back.domain.comment.presentation.dto.response.CommentThreadResponse;
 import com.community.back.domain.comment.presentation.dto.response.CreateCommentResponse;
+import com.community.back.domain.comment.presentation.dto.response.ReviewCommentsResponse;
 import com.community.back.domain.review.domain.repository.ReviewRepository;
+import com.community.back.global.dto.CursorPageResponse;
 import com.community.back.global.exception.CustomException;
 import com.community.back.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -26,32 +39,135 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final ReviewRepository reviewRepository;
     private final CommentDomainService commentDomainService;
-    private final com.community.back.domain.auth.domain.repository.UserRepository userRepository;
+    private final UserNameResolver userNameResolver;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_REPLIES = 20;
+    private static final int MAX_REVIEW_IDS = 50;
+    private static final int MAX_PER_REVIEW = 20;
 
     /**
-     * 특정 리뷰의 댓글 목록 조회
+     * 특정 리뷰의 댓글 트리 조회
+     * - 최상위 댓글은 comment_id 오름차순 keyset 페이지, 각 최상위 댓글에 첫 대댓글 replies개와 전체 대댓글 수 포함
+     * - 리뷰 존재 확인 1회(PK) + 댓글 조회 1회 + 작성자 이름 조회 1회, 결과를 한 번 순회하며 트리 구성
      * @param reviewId 리뷰 ID
-     * @return 댓글 목록 (생성일시 오름차순)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 최상위 댓글 수 (1 ~ MAX_PAGE_SIZE)
+     * @param replies 최상위 댓글당 대댓글 수 (0 ~ MAX_REPLIES)
      */
-    public List<CommentResponse> getCommentsByReviewId(Long reviewId) {
-        log.info("Fetching comments for review: {}", reviewId);
+    public CursorPageResponse<CommentThreadResponse> getCommentsByReviewId(Long reviewId, Long cursor, int size, int replies) {
+        log.info("Fetching comment threads for review: {} (cursor={}, size={}, replies={})", reviewId, cursor, size, replies);
 
-        // 리뷰 존재 여부 확인
-        reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
+        if (size <= 0 || size > MAX_PAGE_SIZE || replies < 0 || replies > MAX_REPLIES) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        // 삭제된 리뷰의 댓글은 정리 전까지 남아 있을 수 있으므로 항상 리뷰 존재 여부 확인 (없는 리뷰는 404)
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new CustomException(ErrorCode.REVIEW_NOT_FOUND);
+        }
 
-        // 댓글 목록 조회 (생성일시 오름차순)
-        List<Comment> comments = commentRepository.findByReviewIdOrderByCreatedAtAsc(reviewId);
-        log.info("Found {} comments for review: {}", comments.size(), reviewId);
-
-        return comments.stream()
-                .map(comment -> {
-                    String userName = userRepository.findById(String.valueOf(comment.getUserId()))
-                            .map(com.community.back.domain.auth.domain.User::getName)
-                            .orElse("알 수 없음");
-                    return CommentResponse.from(comment, userName);
-                })
-                .toList();
+        // 다음 페이지 존재 여부 확인을 위해 최상위 댓글 size + 1개 조회
+        List<Comment> rows = commentRepository.findThreadPage(reviewId, cursor == null ? 0L : cursor, size + 1, replies);
+
+        Map<Long, String> userNames = userNameResolver.resolveAll(
+                rows.stream().map(Comment::getUserId).toList());
+
+        // 최상위 댓글 → 대댓글 순으로 정렬되어 있으므로 한 번 순회로 트리 구성
+        List<CommentThreadResponse> threads = new ArrayList<>();
+        Map<Long, CommentThreadResponse> threadsById = new HashMap<>();
+        for (Comment comment : rows) {
+            if (comment.isRoot()) {
+                CommentThreadResponse thread = CommentThreadResponse.from(comment, userNames.get(comment.getUserId()));
+                threads.add(thread);
+                threadsById.put(comment.getCommentId(), thread);
+            } else {
+                CommentThreadResponse thread = threadsById.get(comment.getParentId());
+                if (thread != null) {
+                    thread.getReplies().add(CommentResponse.from(comment, userNames.get(comment.getUserId())));
+                }
+            }
+        }
+
+        return CursorPageResponse.of(threads, size, Function.identity(),
+                thread -> String.valueOf(thread.getCommentId()));
+    }
+
+    /**
+     * 여러 리뷰의 최상위 댓글 미리보기 조회 (피드 화면용)
+     * - 리뷰 존재 확인 1회(IN) + 댓글 조회 1회(윈도 쿼리) + 작성자 이름 조회 1회
+     * - 존재하지 않는 리뷰는 남은 댓글이 있더라도 결과에서 제외, 순서는 요청한 reviewIds 순
+     * @param reviewIds 리뷰 ID 목록 (중복 제거 후 최대 MAX_REVIEW_IDS개)
+     * @param perReview 리뷰당 최상위 댓글 수 (1 ~ MAX_PER_REVIEW)
+     */
+    public List<ReviewCommentsResponse> getCommentsByReviewIds(List<Long> reviewIds, int perReview) {
+        log.info("Fetching top comments for reviews: {} (perReview={})", reviewIds, perReview);
+
+        Set<Long> ids = reviewIds == null ? Set.of() : new LinkedHashSet<>(reviewIds);
+        if (ids.isEmpty() || ids.size() > MAX_REVIEW_IDS || ids.contains(null)
+                || perReview <= 0 || perReview > MAX_PER_REVIEW) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        // 삭제된 리뷰의 댓글은 정리 전까지 남아 있을 수 있으므로 요청한 모든 리뷰의 존재 여부 확인
+        Set<Long> existing = new HashSet<>(reviewRepository.findExistingIds(ids));
+        if (existing.isEmpty()) {
+            return List.of();
+        }
+
+        // 더 있는지 확인을 위해 리뷰당 perReview + 1개 조회
+        Map<Long, List<Comment>> rootsByReview = new HashMap<>();
+        for (Comment comment : commentRepository.findTopRootsByReviewIdIn(existing, perReview + 1)) {
+            rootsByReview.computeIfAbsent(comment.getReviewId(), id -> new ArrayList<>()).add(comment);
+        }
+
+        Map<Long, String> userNames = userNameResolver.resolveAll(rootsByReview.values().stream()
+                .flatMap(List::stream).map(Comment::getUserId).toList());
+
+        List<ReviewCommentsResponse> responses = new ArrayList<>();
+        for (Long reviewId : ids) {
+            if (!existing.contains(reviewId)) {
+                continue;
+            }
+            List<Comment> roots = rootsByReview.getOrDefault(reviewId, List.of());
+            boolean hasMore = roots.size() > perReview;
+            responses.add(ReviewCommentsResponse.builder()
+                    .reviewId(reviewId)
+                    .comments((hasMore ? roots.subList(0, perReview) : roots).stream()
+                            .map(comment -> CommentThreadResponse.from(comment, userNames.get(comment.getUserId())))
+                            .toList())
+                    .hasMore(hasMore)
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 최상위 댓글의 대댓글 페이지 조회 (오래된 순)
+     * @param commentId 최상위 댓글 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    public CursorPageResponse<CommentResponse> getReplies(Long commentId, Long cursor, int size) {
+        log.info("Fetching replies of comment: {} (cursor={}, size={})", commentId, cursor, size);
+
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        // 삭제된 최상위 댓글의 대댓글도 정리 전까지 남아 있을 수 있으므로 항상 존재 여부 확인
+        if (!commentRepository.existsById(commentId)) {
+            throw new CustomException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+        List<Comment> rows = commentRepository.findReplyPage(commentId, cursor == null ? 0L : cursor, size + 1);
+
+        Map<Long, String> userNames = userNameResolver.resolveAll(
+                rows.stream().map(Comment::getUserId).toList());
+
+        return CursorPageResponse.of(rows, size,
+                comment -> CommentResponse.from(comment, userNames.get(comment.getUserId())),
+                comment -> String.valueOf(comment.getCommentId()));
     }
 
     /**
@@ -75,14 +191,15 @@ public class CommentService {
                 request.getContent()
         );
 
-        // 영속성 처리 (Application Service의 책임)
+        // 영속성 처리 (Application Service의 책임, 대댓글은 최상위 댓글을 먼저 잠금)
+        if (!comment.isRoot()) {
+            adjustReplyCount(comment.getParentId(), 1);
+        }
         Comment savedComment = commentRepository.save(comment);
         log.info("Comment created successfully: {}", savedComment.getCommentId());
 
         // userName 조회 및 추가
-        String userName = userRepository.findById(String.valueOf(userId))
-                .map(com.community.back.domain.auth.domain.User::getName)
-                .orElse("알 수 없음");
+        String userName = userNameResolver.resolve(userId);
 
         return CreateCommentResponse.from(savedComment, userName);
     }
@@ -110,9 +227,7 @@ public class CommentService {
         log.info("Comment {} updated successfully", commentId);
 
         // userName 조회 및 추가
-        String userName = userRepository.findById(String.valueOf(comment.getUserId()))
-                .map(com.community.back.domain.auth.domain.User::getName)
-                .orElse("알 수 없음");
+        String userName = userNameResolver.resolve(comment.getUserId());
 
         return CommentResponse.from(comment, userName);
     }
@@ -133,8 +248,36 @@ public class CommentService {
         // 댓글 소유자 검증 (Domain Service에 위임)
         commentDomainService.validateCommentOwner(comment, userId);
 
-        // 댓글 삭제
+        // 댓글 삭제 (대댓글은 최상위 댓글을 먼저 잠금)
+        if (!comment.isRoot()) {
+            adjustReplyCount(comment.getParentId(), -1);
+        }
         commentRepository.delete(comment);
         log.info("Comment {} deleted successfully", commentId);
+
+        // 최상위 댓글의 대댓글은 커밋 이후 CommentCleanupService가 청크 단위로 삭제
+        eventPublisher.publishEvent(new CommentDeletedEvent(commentId, comment.getReviewId(), comment.isRoot()));
+    }
+
+    /**
+     * 최상위 댓글의 대댓글 수 증감
+     * - 대댓글 INSERT/DELETE 전에 최상위 댓글 행을 잠가 CommentReplyCountBackfill과 같은 순서로 잠금
+     * - 아직 계산 전인 댓글은 반영하지 않음 (계산 시 대댓글로부터 포함)
+     * - 음수가 되는 경우는 집계가 어긋난 것이므로 경고 후 대댓글 수를 다시 셈
+     */
+    private void adjustReplyCount(Long parentId, int delta) {
+        Integer replyCount = commentRepository.lockReplyCount(parentId);
+        if (replyCount == null) {
+            return;
+        }
+        if (replyCount + delta < 0) {
+            // 호출 시점에는 작성할 대댓글이 아직 없고 삭제할 대댓글은 아직 있으므로 delta를 더함
+            long recounted = commentRepository.countRepliesForShare(parentId) + delta;
+            log.warn("Reply count of comment {} drifted (stored {}, delta {}), recounted {}",
+                    parentId, replyCount, delta, recounted);
+            commentRepository.backfillReplyCount(parentId, recounted);
+            return;
+        }
+        commentRepository.adjustReplyCount(parentId, delta);
     }
 }
@@ -9,7 +9,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 리뷰별 최상위 댓글 페이지 (review_id = ? and parent_id is null and comment_id > ?)
+        @Index(name = "idx_comments_review_id_parent_id_comment_id", columnList = "review_id, parent_id, comment_id"),
+        // 댓글별 대댓글 (parent_id = ? order by comment_id)
+        @Index(name = "idx_comments_parent_id_comment_id", columnList = "parent_id, comment_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
@@ -31,6 +36,14 @@ public class Comment {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 대댓글 수 (최상위 댓글만 사용, CommentRepository#adjustReplyCount로 원자적 증감)
+    @Column(name = "reply_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer replyCount;
+
+    // 기존 대댓글로부터 대댓글 수를 계산했는지 여부 (false인 동안 증감분을 반영하지 않음, CommentReplyCountBackfill 참고)
+    @Column(name = "reply_count_backfilled", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean replyCountBackfilled;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -39,6 +52,13 @@ public class Comment {
 
     @PrePersist
     protected void onCreate() {
+        if (this.replyCount == null) {
+            this.replyCount = 0;
+        }
+        // 새 댓글은 대댓글이 없으므로 초기값(0)이 곧 정확한 대댓글 수
+        if (this.replyCountBackfilled == null) {
+            this.replyCountBackfilled = true;
+        }
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -0,0 +1,11 @@
+package com.community.back.domain.comment.domain.event;
+
+/**
+ * 댓글 삭제 이벤트
+ * - 최상위 댓글이 삭제되면 커밋 이후 남은 대댓글 정리에 사용
+ * @param commentId 삭제된 댓글 ID
+ * @param reviewId 댓글이 달린 리뷰 ID
+ * @param root 최상위 댓글 여부
+ */
+public record CommentDeletedEvent(Long commentId, Long reviewId, boolean root) {
+}
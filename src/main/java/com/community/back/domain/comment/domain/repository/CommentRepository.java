@@ -2,8 +2,12 @@ package com.community.back.domain.comment.domain.repository;
 
 import com.community.back.domain.comment.domain.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +19,201 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return 정렬된 댓글 목록
      */
     List<Comment> findByReviewIdOrderByCreatedAtAsc(Long reviewId);
+
+    /**
+     * 여러 리뷰의 댓글 수를 한 번에 조회 (GROUP BY)
+     * @param reviewIds 리뷰 ID 목록
+     * @return 리뷰별 댓글 수 (댓글이 없는 리뷰는 포함되지 않음)
+     */
+    @Query("select c.reviewId as reviewId, count(c) as count from Comment c " +
+            "where c.reviewId in :reviewIds group by c.reviewId")
+    List<ReviewCommentCount> countByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+
+    long countByReviewId(Long reviewId);
+
+    /**
+     * 리뷰의 최상위 댓글 한 페이지와 각 최상위 댓글의 첫 대댓글들을 한 번에 조회
+     * - 최상위 댓글은 comment_id 오름차순 keyset, 대댓글은 LATERAL 조인으로 최상위 댓글당 최대 :perRoot개만 읽음
+     * - 최상위 댓글 다음에 그 대댓글이 오도록 정렬
+     * @param lastCommentId 이전 페이지 마지막 최상위 댓글 ID (첫 페이지는 0)
+     * @param limit 최상위 댓글 수 (다음 페이지 확인용 + 1 포함)
+     * @param perRoot 최상위 댓글당 대댓글 수
+     */
+    @Query(
+            value = "select c.* from (" +
+                    "  select comment_id from comments " +
+                    "  where review_id = :reviewId and parent_id is null and comment_id > :lastCommentId " +
+                    "  order by comment_id limit :limit" +
+                    ") r " +
+                    "join lateral (" +
+                    "  select r.comment_id as comment_id " +
+                    "  union all " +
+                    "  (select x.comment_id from comments x where x.parent_id = r.comment_id " +
+                    "   order by x.comment_id limit :perRoot)" +
+                    ") t " +
+                    "join comments c on c.comment_id = t.comment_id " +
+                    "order by r.comment_id, c.parent_id is not null, c.comment_id",
+            nativeQuery = true
+    )
+    List<Comment> findThreadPage(@Param("reviewId") Long reviewId,
+                                 @Param("lastCommentId") Long lastCommentId,
+                                 @Param("limit") int limit,
+                                 @Param("perRoot") int perRoot);
+
+    /**
+     * 여러 리뷰의 최상위 댓글을 리뷰당 최대 :perReview개씩 한 번에 조회 (윈도 함수)
+     * - 리뷰별 comment_id 오름차순, 결과는 review_id, comment_id 순
+     * @param perReview 리뷰당 최상위 댓글 수 (더 있는지 확인하려면 + 1)
+     */
+    @Query(
+            value = "select c.* from comments c " +
+                    "join (" +
+                    "  select comment_id, row_number() over (partition by review_id order by comment_id) as rn " +
+                    "  from comments where review_id in (:reviewIds) and parent_id is null" +
+                    ") w on w.comment_id = c.comment_id " +
+                    "where w.rn <= :perReview " +
+                    "order by c.review_id, c.comment_id",
+            nativeQuery = true
+    )
+    List<Comment> findTopRootsByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds,
+                                           @Param("perReview") int perReview);
+
+    /**
+     * 최상위 댓글의 대댓글 페이지 (comment_id 오름차순 keyset)
+     */
+    @Query(
+            value = "select * from comments " +
+                    "where parent_id = :parentId and comment_id > :lastCommentId " +
+                    "order by comment_id " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<Comment> findReplyPage(@Param("parentId") Long parentId,
+                                @Param("lastCommentId") Long lastCommentId,
+                                @Param("limit") int limit);
+
+    /**
+     * 최상위 댓글 행 잠금 후 대댓글 수 조회 (대댓글 작성/삭제와 대댓글 수 계산을 최상위 댓글 단위로 직렬화)
+     * @return 대댓글 수 (댓글이 없거나 아직 계산 전이면 null)
+     */
+    @Query(
+            value = "select case when reply_count_backfilled then reply_count end from comments " +
+                    "where comment_id = :commentId for update",
+            nativeQuery = true
+    )
+    Integer lockReplyCount(@Param("commentId") Long commentId);
+
+    /**
+     * 대댓글 수 원자적 증감 (계산 전인 댓글은 반영하지 않음)
+     */
+    @Modifying
+    @Query(
+            value = "update comments set reply_count = reply_count + :delta " +
+                    "where comment_id = :commentId and reply_count_backfilled = true",
+            nativeQuery = true
+    )
+    int adjustReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    /**
+     * 댓글의 대댓글 수 (공유 잠금 읽기)
+     */
+    @Query(
+            value = "select count(*) from comments where parent_id = :parentId for share",
+            nativeQuery = true
+    )
+    long countRepliesForShare(@Param("parentId") Long parentId);
+
+    /**
+     * 대댓글 수 계산 대상 (reply_count_backfilled = false인 최상위 댓글, comment_id 키셋)
+     */
+    @Query(
+            value = "select comment_id from comments " +
+                    "where parent_id is null and reply_count_backfilled = false and comment_id > :lastCommentId " +
+                    "order by comment_id " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<Long> findReplyCountBackfillTargets(@Param("lastCommentId") Long lastCommentId, @Param("limit") int limit);
+
+    /**
+     * 댓글 행 잠금 후 대댓글 수 계산 여부 조회
+     * @return 계산 완료 여부 (댓글이 없으면 null)
+     */
+    @Query(
+            value = "select reply_count_backfilled from comments where comment_id = :commentId for update",
+            nativeQuery = true
+    )
+    Boolean lockReplyCountBackfilled(@Param("commentId") Long commentId);
+
+    /**
+     * 계산한 대댓글 수 저장 및 완료 표시
+     */
+    @Modifying
+    @Query(
+            value = "update comments set reply_count = :replyCount, reply_count_backfilled = true " +
+                    "where comment_id = :commentId",
+            nativeQuery = true
+    )
+    int backfillReplyCount(@Param("commentId") Long commentId, @Param("replyCount") long replyCount);
+
+    /**
+     * 리뷰의 댓글을 최대 :limit개 삭제 (청크 단위로 반복 호출, 이미 지워졌으면 0)
+     */
+    @Modifying
+    @Query(
+            value = "delete from comments where review_id = :reviewId order by comment_id limit :limit",
+            nativeQuery = true
+    )
+    int deleteChunkByReviewId(@Param("reviewId") Long reviewId, @Param("limit") int limit);
+
+    /**
+     * 댓글의 대댓글을 최대 :limit개 삭제 (청크 단위로 반복 호출, 이미 지워졌으면 0)
+     */
+    @Modifying
+    @Query(
+            value = "delete from comments where parent_id = :parentId order by comment_id limit :limit",
+            nativeQuery = true
+    )
+    int deleteChunkByParentId(@Param("parentId") Long parentId, @Param("limit") int limit);
+
+    /**
+     * 리뷰가 없는 댓글을 최대 :limit개 삭제 (정리 대상을 잃은 경우를 위한 주기적 정리)
+     * - MySQL은 다중 테이블 DELETE에 LIMIT을 허용하지 않으므로 LEFT JOIN으로 고른 ID를 파생 테이블로 감싸 삭제
+     */
+    @Modifying
+    @Query(
+            value = "delete from comments where comment_id in (" +
+                    "  select comment_id from (" +
+                    "    select c.comment_id from comments c " +
+                    "    left join reviews r on r.review_id = c.review_id " +
+                    "    where r.review_id is null " +
+                    "    order by c.comment_id limit :limit" +
+                    "  ) orphans" +
+                    ")",
+            nativeQuery = true
+    )
+    int deleteOrphanChunkOfReviews(@Param("limit") int limit);
+
+    /**
+     * 최상위 댓글이 없는 대댓글을 최대 :limit개 삭제 (정리 대상을 잃은 경우를 위한 주기적 정리)
+     */
+    @Modifying
+    @Query(
+            value = "delete from comments where comment_id in (" +
+                    "  select comment_id from (" +
+                    "    select c.comment_id from comments c " +
+                    "    left join comments p on p.comment_id = c.parent_id " +
+                    "    where c.parent_id is not null and p.comment_id is null " +
+                    "    order by c.comment_id limit :limit" +
+                    "  ) orphans" +
+                    ")",
+            nativeQuery = true
+    )
+    int deleteOrphanChunkOfParents(@Param("limit") int limit);
+
+    interface ReviewCommentCount {
+        Long getReviewId();
+
+        Long getCount();
+    }
 }
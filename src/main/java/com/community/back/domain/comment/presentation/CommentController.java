@@ -4,11 +4,13 @@ import com.community.back.domain.comment.application.CommentService;
 import com.community.back.domain.comment.presentation.dto.request.CreateCommentRequest;
 import com.community.back.domain.comment.presentation.dto.request.UpdateCommentRequest;
 import com.community.back.domain.comment.presentation.dto.response.CommentResponse;
+import com.community.back.domain.comment.presentation.dto.response.CommentThreadResponse;
 import com.community.back.domain.comment.presentation.dto.response.CreateCommentResponse;
+import com.community.back.domain.comment.presentation.dto.response.ReviewCommentsResponse;
+import com.community.back.global.dto.CursorPageResponse;
 import com.community.back.global.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -33,20 +35,66 @@ public class CommentController {
 
     private final CommentService commentService;
 
-    @Operation(summary = "댓글 목록 조회", description = "특정 리뷰의 댓글 목록을 조회합니다.")
+    @Operation(summary = "댓글 목록 조회", description = "특정 리뷰의 댓글을 트리 구조로 조회합니다. 최상위 댓글은 커서 기반으로 size개씩, 각 최상위 댓글에는 첫 대댓글 replies개와 전체 대댓글 수(replyCount)가 포함됩니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CommentResponse.class))))
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "리뷰를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/reviews/{reviewId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(
+    public ResponseEntity<CursorPageResponse<CommentThreadResponse>> getComments(
             @Parameter(description = "리뷰 ID", required = true)
-            @PathVariable Long reviewId) {
-        log.info("GET /reviews/{}/comments - 댓글 목록 조회", reviewId);
-        List<CommentResponse> comments = commentService.getCommentsByReviewId(reviewId);
+            @PathVariable Long reviewId,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "최상위 댓글 수 (최대 50)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "최상위 댓글당 대댓글 미리보기 수 (최대 20)")
+            @RequestParam(defaultValue = "3") int replies) {
+        log.info("GET /reviews/{}/comments?cursor={}&size={}&replies={} - 댓글 목록 조회", reviewId, cursor, size, replies);
+        CursorPageResponse<CommentThreadResponse> comments =
+                commentService.getCommentsByReviewId(reviewId, cursor, size, replies);
         return ResponseEntity.ok(comments);
     }
 
+    @Operation(summary = "여러 리뷰의 댓글 미리보기 조회", description = "피드 화면용으로 여러 리뷰의 최상위 댓글을 리뷰당 perReview개씩 한 번에 조회합니다. 존재하지 않는 리뷰는 결과에서 제외되며, 순서는 요청한 reviewIds 순입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 리뷰 ID 목록(최대 50개) 또는 perReview(최대 20)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/comments")
+    public ResponseEntity<List<ReviewCommentsResponse>> getCommentsByReviewIds(
+            @Parameter(description = "리뷰 ID 목록 (쉼표 구분)", required = true, example = "1,2,3")
+            @RequestParam List<Long> reviewIds,
+            @Parameter(description = "리뷰당 최상위 댓글 수 (최대 20)")
+            @RequestParam(defaultValue = "3") int perReview) {
+        log.info("GET /comments?reviewIds={}&perReview={} - 여러 리뷰 댓글 미리보기 조회", reviewIds, perReview);
+        return ResponseEntity.ok(commentService.getCommentsByReviewIds(reviewIds, perReview));
+    }
+
+    @Operation(summary = "대댓글 목록 조회", description = "최상위 댓글의 대댓글을 오래된 순으로 커서 기반 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getReplies(
+            @Parameter(description = "최상위 댓글 ID", required = true)
+            @PathVariable Long commentId,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("GET /comments/{}/replies?cursor={}&size={} - 대댓글 목록 조회", commentId, cursor, size);
+        return ResponseEntity.ok(commentService.getReplies(commentId, cursor, size));
+    }
+
     @Operation(summary = "댓글 작성", description = "리뷰에 댓글을 작성합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "작성 성공",
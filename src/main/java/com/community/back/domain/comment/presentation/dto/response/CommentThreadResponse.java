@@ -0,0 +1,61 @@
+package com.community.back.domain.comment.presentation.dto.response;
+
+import com.community.back.domain.comment.domain.Comment;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "최상위 댓글과 대댓글 미리보기")
+public class CommentThreadResponse {
+
+    @Schema(description = "댓글 ID", example = "1")
+    private Long commentId;
+
+    @Schema(description = "리뷰 ID", example = "1")
+    private Long reviewId;
+
+    @Schema(description = "작성자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "작성자 이름", example = "홍길동")
+    private String userName;
+
+    @Schema(description = "댓글 내용", example = "좋은 리뷰 감사합니다!")
+    private String content;
+
+    @Schema(description = "작성일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "수정일시")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "대댓글 (오래된 순, 최대 replies개)")
+    private List<CommentResponse> replies;
+
+    @Schema(description = "전체 대댓글 수 (replies보다 많으면 /comments/{commentId}/replies로 이어서 조회, 계산 전에는 null)", example = "12")
+    private Integer replyCount;
+
+    public static CommentThreadResponse from(Comment comment, String userName) {
+        return CommentThreadResponse.builder()
+                .commentId(comment.getCommentId())
+                .reviewId(comment.getReviewId())
+                .userId(comment.getUserId())
+                .userName(userName)
+                .content(comment.getContent())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .replies(new ArrayList<>())
+                .replyCount(Boolean.TRUE.equals(comment.getReplyCountBackfilled()) ? comment.getReplyCount() : null)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.community.back.domain.comment.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "리뷰별 최상위 댓글 미리보기")
+public class ReviewCommentsResponse {
+
+    @Schema(description = "리뷰 ID", example = "1")
+    private Long reviewId;
+
+    @Schema(description = "최상위 댓글 (오래된 순, 최대 perReview개, 대댓글은 replyCount만 포함)")
+    private List<CommentThreadResponse> comments;
+
+    @Schema(description = "최상위 댓글이 더 있는지 여부 (/reviews/{reviewId}/comments로 이어서 조회)", example = "true")
+    private boolean hasMore;
+}
@@ -0,0 +1,143 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.Field;
+import com.community.back.domain.field.domain.FieldStatus;
+import com.community.back.domain.field.domain.event.FieldApprovedEvent;
+import com.community.back.domain.field.domain.event.FieldRatingChangedEvent;
+import com.community.back.domain.field.domain.repository.FieldRepository;
+import com.community.back.domain.field.presentation.dto.response.FieldListResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 승인된 축구장 목록 스냅샷
+ * - 불변 리스트를 volatile 참조로 보관하여 읽기는 락 없이 처리
+ * - 승인/평점 변경 시 기존 리스트를 복사해 새 버전으로 교체 (copy-on-write)
+ */
+@Slf4j
+@Component
+public class ApprovedFieldSnapshot {
+
+    private final FieldRepository fieldRepository;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter rebuildCounter;
+
+    private volatile Snapshot snapshot;
+
+    public record Snapshot(long version, List<FieldListResponse> items, Map<Long, FieldListResponse> byId) {
+
+        public Snapshot(long version, List<FieldListResponse> items) {
+            this(version, items, items.stream()
+                    .collect(Collectors.toUnmodifiableMap(FieldListResponse::getId, Function.identity())));
+        }
+    }
+
+    public ApprovedFieldSnapshot(FieldRepository fieldRepository, MeterRegistry meterRegistry) {
+        this.fieldRepository = fieldRepository;
+        this.hitCounter = meterRegistry.counter("field.snapshot.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("field.snapshot.requests", "result", "miss");
+        this.rebuildCounter = meterRegistry.counter("field.snapshot.rebuilds");
+        meterRegistry.gauge("field.snapshot.version", this, cache -> {
+            Snapshot current = cache.snapshot;
+            return current == null ? 0 : current.version();
+        });
+    }
+
+    /**
+     * 현재 승인 목록 조회
+     */
+    public List<FieldListResponse> get() {
+        return current().items();
+    }
+
+    /**
+     * 현재 스냅샷 조회 (없으면 DB에서 재구성)
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            hitCounter.increment();
+            return current;
+        }
+        missCounter.increment();
+        return load();
+    }
+
+    /**
+     * 스냅샷이 없을 때만 재구성 (동시에 놓친 요청들은 잠금을 얻은 뒤 먼저 만든 스냅샷을 사용)
+     */
+    private synchronized Snapshot load() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * 전체 재구성
+     */
+    public synchronized Snapshot rebuild() {
+        List<FieldListResponse> items = fieldRepository.findByStatus(FieldStatus.APPROVED)
+                .stream()
+                .map(FieldListResponse::from)
+                .toList();
+        return publish(items);
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onFieldApproved(FieldApprovedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Set<Long> approvedIds = Set.copyOf(event.fieldIds());
+        List<FieldListResponse> items = new ArrayList<>(current.items().size() + approvedIds.size());
+        current.items().stream()
+                .filter(item -> !approvedIds.contains(item.getId()))
+                .forEach(items::add);
+        fieldRepository.findAllById(approvedIds).stream()
+                .filter(field -> field.getStatus() == FieldStatus.APPROVED)
+                .map(FieldListResponse::from)
+                .forEach(items::add);
+        publish(items);
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onFieldRatingChanged(FieldRatingChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Field field = fieldRepository.findById(event.fieldId()).orElse(null);
+        if (field == null || field.getStatus() != FieldStatus.APPROVED) {
+            return;
+        }
+        FieldListResponse replacement = FieldListResponse.from(field);
+        publish(current.items().stream()
+                .map(item -> item.getId().equals(replacement.getId()) ? replacement : item)
+                .collect(Collectors.toList()));
+    }
+
+    private Snapshot publish(List<FieldListResponse> items) {
+        Snapshot current = snapshot;
+        long version = current == null ? 1 : current.version() + 1;
+        Snapshot next = new Snapshot(version, List.copyOf(items));
+        snapshot = next;
+        rebuildCounter.increment();
+        log.info("Approved field snapshot v{} published with {} fields", version, items.size());
+        return next;
+    }
+}
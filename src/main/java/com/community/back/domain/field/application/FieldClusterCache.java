@@ -0,0 +1,197 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.event.FieldApprovedEvent;
+import com.community.back.domain.field.domain.event.FieldRatingChangedEvent;
+import com.community.back.domain.field.presentation.dto.response.FieldClusterResponse;
+import com.community.back.domain.field.presentation.dto.response.FieldListResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지도 타일 단위 축구장 클러스터 캐시
+ * - 줌 z의 웹 메르카토르 타일을 CELLS_PER_TILE x CELLS_PER_TILE 격자로 나눠 격자별로 집계
+ * - 타일 결과는 크기 제한 LRU에 보관하고, 승인/평점 변경 시 해당 좌표를 포함하는 타일만 제거
+ * - 무효화는 공간 인덱스/승인 목록 스냅샷 갱신(@Order(0)) 이후에 실행
+ * - 계산 도중 무효화가 일어나면 (세대 번호 변경) 계산 결과를 저장하지 않음
+ */
+@Slf4j
+@Component
+public class FieldClusterCache {
+
+    public static final int MAX_ZOOM = 20;
+    private static final int CELL_SHIFT = 3;
+    private static final int CELLS_PER_TILE = 1 << CELL_SHIFT;
+
+    private final FieldSpatialIndex fieldSpatialIndex;
+    private final ApprovedFieldSnapshot approvedFieldSnapshot;
+    private final Map<Long, List<FieldClusterResponse>> tiles;
+    private final AtomicLong generation = new AtomicLong();
+
+    public FieldClusterCache(FieldSpatialIndex fieldSpatialIndex,
+                             ApprovedFieldSnapshot approvedFieldSnapshot,
+                             @Value("${field.cluster.cache.max-tiles:20000}") int maxTiles) {
+        this.fieldSpatialIndex = fieldSpatialIndex;
+        this.approvedFieldSnapshot = approvedFieldSnapshot;
+        this.tiles = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<FieldClusterResponse>> eldest) {
+                return size() > maxTiles;
+            }
+        };
+    }
+
+    /**
+     * 타일 클러스터 조회 (캐시 miss 시 계산 후 저장)
+     */
+    public List<FieldClusterResponse> getTile(int zoom, long x, long y) {
+        long key = tileKey(zoom, x, y);
+        synchronized (tiles) {
+            List<FieldClusterResponse> cached = tiles.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long observed = generation.get();
+        List<FieldClusterResponse> clusters = computeTile(zoom, x, y);
+        synchronized (tiles) {
+            // 계산 도중 무효화되었다면 이전 스냅샷 기준일 수 있으므로 저장하지 않음
+            if (generation.get() == observed) {
+                tiles.put(key, clusters);
+            }
+        }
+        return clusters;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFieldApproved(FieldApprovedEvent event) {
+        event.fieldIds().forEach(this::evictTilesContaining);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFieldRatingChanged(FieldRatingChangedEvent event) {
+        evictTilesContaining(event.fieldId());
+    }
+
+    private void evictTilesContaining(Long fieldId) {
+        FieldListResponse field = approvedFieldSnapshot.current().byId().get(fieldId);
+        if (field == null || field.getLat() == null || field.getLng() == null) {
+            // 좌표를 알 수 없으면 전체 무효화
+            synchronized (tiles) {
+                generation.incrementAndGet();
+                tiles.clear();
+            }
+            return;
+        }
+        synchronized (tiles) {
+            generation.incrementAndGet();
+            for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                tiles.remove(tileKey(zoom, tileX(field.getLng(), zoom), tileY(field.getLat(), zoom)));
+            }
+        }
+    }
+
+    private List<FieldClusterResponse> computeTile(int zoom, long x, long y) {
+        List<FieldSpatialIndex.Point> points = fieldSpatialIndex.within(
+                tileLat(y + 1, zoom), tileLng(x, zoom), tileLat(y, zoom), tileLng(x + 1, zoom));
+        if (points.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, FieldListResponse> fieldsById = approvedFieldSnapshot.current().byId();
+        int cellZoom = zoom + CELL_SHIFT;
+        Map<Integer, Accumulator> cells = new HashMap<>();
+        for (FieldSpatialIndex.Point point : points) {
+            FieldListResponse field = fieldsById.get(point.fieldId());
+            if (field == null) {
+                continue;
+            }
+            int cellX = (int) (tileX(point.lng(), cellZoom) - (x << CELL_SHIFT));
+            int cellY = (int) (tileY(point.lat(), cellZoom) - (y << CELL_SHIFT));
+            int cell = Math.floorMod(cellY, CELLS_PER_TILE) * CELLS_PER_TILE + Math.floorMod(cellX, CELLS_PER_TILE);
+            cells.computeIfAbsent(cell, key -> new Accumulator()).add(point, field);
+        }
+
+        List<FieldClusterResponse> clusters = new ArrayList<>(cells.size());
+        for (Accumulator accumulator : cells.values()) {
+            clusters.add(accumulator.toResponse());
+        }
+        return List.copyOf(clusters);
+    }
+
+    private static class Accumulator {
+        private int count;
+        private double latSum;
+        private double lngSum;
+        private FieldListResponse representative;
+
+        void add(FieldSpatialIndex.Point point, FieldListResponse field) {
+            count++;
+            latSum += point.lat();
+            lngSum += point.lng();
+            if (representative == null || isBetter(field, representative)) {
+                representative = field;
+            }
+        }
+
+        private static boolean isBetter(FieldListResponse candidate, FieldListResponse current) {
+            double candidateRating = candidate.getRating() == null ? 0.0 : candidate.getRating();
+            double currentRating = current.getRating() == null ? 0.0 : current.getRating();
+            if (candidateRating != currentRating) {
+                return candidateRating > currentRating;
+            }
+            return candidate.getId() < current.getId();
+        }
+
+        FieldClusterResponse toResponse() {
+            return FieldClusterResponse.builder()
+                    .count(count)
+                    .lat(latSum / count)
+                    .lng(lngSum / count)
+                    .representative(representative)
+                    .build();
+        }
+    }
+
+    private static long tileKey(int zoom, long x, long y) {
+        // zoom 5비트, x/y 각 29비트 (MAX_ZOOM = 20이므로 충분)
+        return ((long) zoom << 58) | (x << 29) | y;
+    }
+
+    public static long tileX(double lng, int zoom) {
+        long n = 1L << zoom;
+        long x = (long) Math.floor((lng + 180.0) / 360.0 * n);
+        return Math.min(Math.max(x, 0), n - 1);
+    }
+
+    public static long tileY(double lat, int zoom) {
+        long n = 1L << zoom;
+        double clamped = Math.max(Math.min(lat, 85.05112878), -85.05112878);
+        double latRad = Math.toRadians(clamped);
+        long y = (long) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+        return Math.min(Math.max(y, 0), n - 1);
+    }
+
+    public static double tileLng(long x, int zoom) {
+        return x / (double) (1L << zoom) * 360.0 - 180.0;
+    }
+
+    public static double tileLat(long y, int zoom) {
+        double n = Math.PI - 2.0 * Math.PI * y / (1L << zoom);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
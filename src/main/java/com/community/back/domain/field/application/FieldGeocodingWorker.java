@@ -0,0 +1,189 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.Field;
+import com.community.back.domain.field.domain.FieldStatus;
+import com.community.back.domain.field.domain.event.FieldCreatedEvent;
+import com.community.back.domain.field.domain.repository.FieldRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌표 변환 백그라운드 워커
+ * - 등록 요청은 GEOCODING_PENDING 상태로 즉시 저장되고, 이 워커가 좌표를 채운 뒤 승인 대기로 전환
+ * - 단일 스레드 + 대기열 1칸으로 동작하여 중복 실행 없이 최대 한 번의 후속 실행만 예약
+ * - 일시적 오류는 지수 백오프로 재시도하고, 끝내 실패하면 다음 주기에 다시 시도
+ * - 서킷 브레이커/벌크헤드가 호출을 거절하면 백오프 없이 이번 주기를 중단
+ * - 주소 검색 결과가 없으면 기본 좌표를 넣지 않고 GEOCODING_PENDING으로 남겨 negative TTL 이후 다시 시도
+ * - API 키가 없으면 아무것도 처리하지 않음 (대기 건은 GEOCODING_PENDING으로 남음)
+ */
+@Slf4j
+@Component
+public class FieldGeocodingWorker {
+
+    private final FieldRepository fieldRepository;
+    private final FieldService fieldService;
+    private final GeocodingService geocodingService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final Duration retryDelay;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            runnable -> {
+                Thread thread = new Thread(runnable, "field-geocoding-worker");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public FieldGeocodingWorker(FieldRepository fieldRepository,
+                                FieldService fieldService,
+                                GeocodingService geocodingService,
+                                @Value("${geocoding.worker.batch-size:50}") int batchSize,
+                                @Value("${geocoding.worker.max-attempts:3}") int maxAttempts,
+                                @Value("${geocoding.worker.initial-backoff-ms:500}") long initialBackoffMillis,
+                                @Value("${geocoding.cache.negative-ttl:PT6H}") Duration retryDelay) {
+        this.fieldRepository = fieldRepository;
+        this.fieldService = fieldService;
+        this.geocodingService = geocodingService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        // 결과 없음 캐시가 만료된 뒤에 다시 조회해야 실제 외부 API 재조회가 일어남
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * 주소 한 건의 조회 결과 (coordinates가 null이면 검색 결과 없음)
+     */
+    private record Resolution(GeocodingService.Coordinates coordinates) {
+
+        boolean found() {
+            return coordinates != null;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFieldCreated(FieldCreatedEvent event) {
+        wakeUp();
+    }
+
+    /**
+     * 기동 시 및 주기적으로 남은 대기 건 처리 (이벤트 유실/재시도 대비)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${geocoding.worker.poll-interval-ms:30000}",
+            initialDelayString = "${geocoding.worker.poll-interval-ms:30000}")
+    public void wakeUp() {
+        executor.execute(this::drain);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void drain() {
+        if (!geocodingService.isConfigured()) {
+            log.warn("Google Maps API key not configured, leaving pending fields in GEOCODING_PENDING");
+            return;
+        }
+        try {
+            long cursor = 0L;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Field> batch = fieldRepository.findGeocodingDue(
+                        FieldStatus.GEOCODING_PENDING, cursor, LocalDateTime.now(), Limit.of(batchSize));
+                if (batch.isEmpty()) {
+                    return;
+                }
+
+                Map<Long, GeocodingService.Coordinates> resolved = new LinkedHashMap<>();
+                List<Long> notFound = new ArrayList<>();
+                GeocodingClient.RejectedException rejected = null;
+                for (Field field : batch) {
+                    try {
+                        resolve(field.getAddress()).ifPresent(resolution -> {
+                            if (resolution.found()) {
+                                resolved.put(field.getFieldId(), resolution.coordinates());
+                            } else {
+                                notFound.add(field.getFieldId());
+                            }
+                        });
+                    } catch (GeocodingClient.RejectedException e) {
+                        rejected = e;
+                        break;
+                    }
+                }
+                if (!resolved.isEmpty()) {
+                    fieldService.applyGeocodingResults(resolved);
+                }
+                if (!notFound.isEmpty()) {
+                    fieldService.deferGeocoding(notFound, LocalDateTime.now().plus(retryDelay));
+                    log.warn("No geocoding results for fields {}, retrying after {}", notFound, retryDelay);
+                }
+
+                if (rejected != null) {
+                    // 서킷이 열렸거나 동시 호출 상한에 걸리면 남은 건은 다음 주기에 처리
+                    log.warn("Geocoding calls rejected ({}), stopping until the next poll after {} fields",
+                            rejected.getMessage(), resolved.size() + notFound.size());
+                    return;
+                }
+
+                cursor = batch.get(batch.size() - 1).getFieldId();
+                log.info("Geocoded {}/{} pending fields ({} not found)", resolved.size(), batch.size(), notFound.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Field geocoding worker failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 좌표 조회 (지수 백오프 재시도)
+     * @return 조회 결과 (결과 없음 포함, 재시도 소진 시 empty)
+     * @throws GeocodingClient.RejectedException 서킷 브레이커/벌크헤드가 호출을 거절한 경우 (백오프 없이 즉시 전달)
+     */
+    private Optional<Resolution> resolve(String address) {
+        long backoff = initialBackoffMillis;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                return Optional.of(new Resolution(geocodingService.lookup(address).orElse(null)));
+            } catch (GeocodingClient.RejectedException e) {
+                throw e;
+            } catch (IllegalStateException e) {
+                log.warn("Geocoding attempt {}/{} failed for address: {}. Error: {}",
+                        attempt, maxAttempts, address, e.getMessage());
+            }
+            if (attempt < maxAttempts) {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Optional.empty();
+                }
+                backoff *= 2;
+            }
+        }
+        return Optional.empty();
+    }
+}
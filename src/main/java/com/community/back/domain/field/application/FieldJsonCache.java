@@ -0,0 +1,149 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.event.FieldApprovedEvent;
+import com.community.back.domain.field.domain.event.FieldRatingChangedEvent;
+import com.community.back.domain.field.domain.event.FieldSurfaceChangedEvent;
+import com.community.back.global.exception.CustomException;
+import com.community.back.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 축구장 조회 응답 JSON 바이트 캐시
+ * - 직렬화된 UTF-8 바이트와 내용 해시(강한 ETag)를 함께 보관
+ * - 다른 응답과 같은 설정(spring.jackson.*)이 적용되도록 애플리케이션의 JsonMapper로 직렬화
+ * - If-None-Match가 일치하면 저장소/직렬화 없이 304 응답 가능
+ * - 승인/평점 변경 시 목록과 해당 상세 항목 무효화
+ */
+@Slf4j
+@Component
+public class FieldJsonCache {
+
+    private final JsonMapper jsonMapper;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Entry> details;
+
+    private volatile Entry list;
+
+    public record Entry(byte[] body, String etag) {
+
+        /**
+         * If-None-Match 헤더와 비교 (목록, 와일드카드, W/ 접두사 허용)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public FieldJsonCache(JsonMapper jsonMapper,
+                          @Value("${field.json-cache.max-details:5000}") int maxDetails) {
+        this.jsonMapper = jsonMapper;
+        this.details = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxDetails;
+            }
+        };
+    }
+
+    public Entry getList(Supplier<?> loader) {
+        Entry cached = list;
+        if (cached != null) {
+            return cached;
+        }
+        long observed = generation.get();
+        Entry entry = serialize(loader.get());
+        // 직렬화 도중 무효화되었다면 저장하지 않음 (확인과 저장 사이에 무효화가 끼어들지 않도록 evict와 같은 잠금)
+        synchronized (details) {
+            if (generation.get() == observed) {
+                list = entry;
+            }
+        }
+        return entry;
+    }
+
+    public Entry getDetail(Long fieldId, Supplier<?> loader) {
+        synchronized (details) {
+            Entry cached = details.get(fieldId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        long observed = generation.get();
+        Entry entry = serialize(loader.get());
+        synchronized (details) {
+            if (generation.get() == observed) {
+                details.put(fieldId, entry);
+            }
+        }
+        return entry;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFieldApproved(FieldApprovedEvent event) {
+        event.fieldIds().forEach(this::evict);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFieldRatingChanged(FieldRatingChangedEvent event) {
+        evict(event.fieldId());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFieldSurfaceChanged(FieldSurfaceChangedEvent event) {
+        synchronized (details) {
+            generation.incrementAndGet();
+            details.remove(event.fieldId());
+        }
+    }
+
+    private void evict(Long fieldId) {
+        synchronized (details) {
+            generation.incrementAndGet();
+            list = null;
+            details.remove(fieldId);
+        }
+    }
+
+    private Entry serialize(Object value) {
+        try {
+            byte[] body = jsonMapper.writeValueAsBytes(value);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            return new Entry(body, etag);
+        } catch (JacksonException | NoSuchAlgorithmException e) {
+            log.error("Failed to serialize field response", e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.auth.application.UserNameResolver;
+import com.community.back.domain.comment.domain.repository.CommentRepository;
+import com.community.back.domain.field.presentation.dto.response.FieldDetailResponse;
+import com.community.back.domain.field.presentation.dto.response.FieldPageResponse;
+import com.community.back.domain.review.domain.Review;
+import com.community.back.domain.review.domain.repository.ReviewRepository;
+import com.community.back.domain.review.presentation.dto.response.ReviewResponse;
+import com.community.back.global.dto.CursorPageResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 축구장 상세 화면 조립 서비스
+ * - 상세(표면 집계, 평점 분포 포함), 첫 리뷰 페이지, 작성자 이름, 댓글 수를 고정된 5개 쿼리로 조회
+ *   (평점 분포가 재계산되기 전인 축구장은 GROUP BY rating 쿼리 1개 추가)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FieldPageService {
+
+    private static final int FIRST_PAGE_SIZE = 10;
+
+    private final FieldService fieldService;
+    private final ReviewRepository reviewRepository;
+    private final CommentRepository commentRepository;
+    private final UserNameResolver userNameResolver;
+
+    public FieldPageResponse getFieldPage(Long fieldId) {
+        log.info("Assembling field page for id: {}", fieldId);
+
+        // 1. 축구장 상세 (승인된 축구장만)
+        FieldDetailResponse field = fieldService.getFieldById(fieldId);
+
+        // 2. 첫 리뷰 페이지 (limit + 1로 다음 페이지 여부 확인)
+        List<Review> rows = reviewRepository.findAllInfiniteScroll(fieldId, FIRST_PAGE_SIZE + 1L);
+        List<Review> reviews = rows.size() > FIRST_PAGE_SIZE ? rows.subList(0, FIRST_PAGE_SIZE) : rows;
+        List<Long> reviewIds = reviews.stream().map(Review::getReviewId).toList();
+
+        // 3. 작성자 이름 일괄 조회
+        Map<Long, String> userNames = userNameResolver.resolveAll(
+                reviews.stream().map(Review::getUserId).toList());
+
+        // 4. 리뷰별 댓글 수 일괄 조회
+        Map<Long, Long> commentCounts = new HashMap<>();
+        if (!reviewIds.isEmpty()) {
+            commentRepository.countByReviewIdIn(reviewIds)
+                    .forEach(count -> commentCounts.put(count.getReviewId(), count.getCount()));
+        }
+
+        // 5. 평점 분포 (축구장 행에 집계된 평점별 리뷰 수, 재계산 전이면 GROUP BY rating)
+        Map<Integer, Long> ratingDistribution = new LinkedHashMap<>();
+        List<Integer> histogram = field.getRatingHistogram();
+        for (int rating = 1; rating <= 5; rating++) {
+            ratingDistribution.put(rating, histogram == null ? 0L : histogram.get(rating - 1).longValue());
+        }
+        if (histogram == null) {
+            reviewRepository.countByRating(fieldId)
+                    .forEach(count -> ratingDistribution.put(count.getRating(), count.getCount()));
+        }
+
+        return FieldPageResponse.builder()
+                .field(field)
+                .reviews(CursorPageResponse.of(rows, FIRST_PAGE_SIZE,
+                        review -> ReviewResponse.from(review, userNames.get(review.getUserId()),
+                                commentCounts.getOrDefault(review.getReviewId(), 0L)),
+                        review -> String.valueOf(review.getReviewId())))
+                .ratingDistribution(ratingDistribution)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.event.FieldRatingChangedEvent;
+import com.community.back.domain.field.domain.repository.FieldRepository;
+import com.community.back.domain.review.domain.repository.ReviewRepository;
+import com.community.back.domain.review.domain.repository.ReviewRepository.RatingAggregate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기존 리뷰로부터 축구장 평점 집계(review_count, rating_sum, rating, rating_1~5_count) 재계산
+ * - 컬럼 추가 전부터 있던 축구장은 rating_backfilled = false로 시작하며, 그동안 증감분은 반영되지 않음
+ * - 기동 후 별도 스레드에서 field_id 키셋으로 대상을 찾고, 축구장마다 한 트랜잭션에서
+ *   축구장 행 잠금 → 리뷰 공유 잠금 집계 → 이미 커밋된 변경분 처리 → 저장 및 완료 표시
+ *   (집계에 포함된 리뷰의 변경분이 나중에 다시 더해지지 않도록, 재계산과 같은 트랜잭션에서 변경분을 소진)
+ * - 완료 전까지 평점 분포는 리뷰 GROUP BY로 조회 (FieldPageService 참고)
+ * - 완료 표시가 된 축구장은 건너뛰므로 중단 후 재기동해도 남은 축구장부터 이어서 진행
+ */
+@Slf4j
+@Component
+public class FieldRatingBackfill {
+
+    private final FieldRepository fieldRepository;
+    private final ReviewRepository reviewRepository;
+    private final FieldReviewAggregator fieldReviewAggregator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public FieldRatingBackfill(FieldRepository fieldRepository,
+                               ReviewRepository reviewRepository,
+                               FieldReviewAggregator fieldReviewAggregator,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${field.rating.backfill-chunk-size:100}") int chunkSize) {
+        this.fieldRepository = fieldRepository;
+        this.reviewRepository = reviewRepository;
+        this.fieldReviewAggregator = fieldReviewAggregator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::backfill, "field-rating-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void backfill() {
+        long lastFieldId = 0L;
+        int backfilled = 0;
+        try {
+            while (true) {
+                List<Long> fieldIds = fieldRepository.findRatingBackfillTargets(lastFieldId, chunkSize);
+                if (fieldIds.isEmpty()) {
+                    break;
+                }
+                for (Long fieldId : fieldIds) {
+                    if (backfill(fieldId)) {
+                        backfilled++;
+                    }
+                    lastFieldId = fieldId;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Field rating backfill stopped after field {}", lastFieldId, e);
+            return;
+        }
+
+        if (backfilled > 0) {
+            log.info("Backfilled rating aggregates of {} fields", backfilled);
+        }
+    }
+
+    private boolean backfill(Long fieldId) {
+        Boolean done = transactionTemplate.execute(status -> {
+            Boolean backfilled = fieldRepository.lockRatingBackfilled(fieldId);
+            if (backfilled == null || backfilled) {
+                return false;
+            }
+            RatingAggregate aggregate = reviewRepository.aggregateRatingForShare(fieldId);
+            // 평점은 반영되지 않고(재계산 전) 표면 집계 등 다른 집계만 반영된 뒤 삭제됨
+            int drained;
+            do {
+                drained = fieldReviewAggregator.drain(fieldId);
+            } while (drained > 0);
+            fieldRepository.backfillRating(fieldId, aggregate.getReviewCount(), aggregate.getRatingSum(),
+                    aggregate.getRating1Count(), aggregate.getRating2Count(), aggregate.getRating3Count(),
+                    aggregate.getRating4Count(), aggregate.getRating5Count());
+            // 캐시/인덱스의 평점도 커밋 이후 갱신
+            eventPublisher.publishEvent(new FieldRatingChangedEvent(fieldId));
+            return true;
+        });
+        return Boolean.TRUE.equals(done);
+    }
+}
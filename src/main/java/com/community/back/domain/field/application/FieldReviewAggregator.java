@@ -0,0 +1,220 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.SurfaceTallyDelta;
+import com.community.back.domain.field.domain.event.FieldRatingChangedEvent;
+import com.community.back.domain.field.domain.repository.FieldRepository;
+import com.community.back.domain.review.domain.ReviewChange;
+import com.community.back.domain.review.domain.event.ReviewChangedEvent;
+import com.community.back.domain.review.domain.repository.ReviewChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 변경분(review_changes)을 축구장 파생 데이터에 반영하는 집계기
+ * - 리뷰 작성/수정/삭제 트랜잭션은 리뷰와 변경분 행만 INSERT하므로 같은 축구장에 리뷰가 몰려도 fields 행 잠금을 기다리지 않음
+ * - 커밋된 ReviewChangedEvent로 축구장을 대기열에 올리고, 짧은 대기 시간 뒤 쌓인 변경분을 축구장당 한 번에 반영
+ *   (평점/리뷰 수/평점 분포 UPDATE 1회 + 표면 집계 반영 + 캐시/인덱스 갱신 이벤트 1회)
+ * - 반영과 변경분 삭제가 같은 트랜잭션이므로 비정상 종료/반영 실패 시 남은 변경분은 다음 처리에서 다시 반영
+ *   (기동 시와 주기적으로 남은 변경분이 있는 축구장을 다시 대기열에 올림)
+ * - 대기 중인 축구장 수가 상한을 넘으면 호출 스레드에서 즉시 반영하여 메모리를 제한
+ */
+@Slf4j
+@Component
+public class FieldReviewAggregator {
+
+    private final FieldRepository fieldRepository;
+    private final ReviewChangeRepository reviewChangeRepository;
+    private final FieldSurfaceTallyService fieldSurfaceTallyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long coalesceWindowMillis;
+    private final int maxPendingFields;
+    private final int batchSize;
+    private final long sweepIntervalMillis;
+
+    private static final long RETRY_DELAY_MILLIS = 5_000L;
+
+    // 반영이 예약된 축구장 (같은 축구장의 중복 예약 방지)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final Counter eventCounter;
+    private final Counter flushCounter;
+    private final Counter failureCounter;
+
+    public FieldReviewAggregator(FieldRepository fieldRepository,
+                                 ReviewChangeRepository reviewChangeRepository,
+                                 FieldSurfaceTallyService fieldSurfaceTallyService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${review.aggregation.coalesce-window-ms:200}") long coalesceWindowMillis,
+                                 @Value("${review.aggregation.max-pending-fields:1000}") int maxPendingFields,
+                                 @Value("${review.aggregation.batch-size:500}") int batchSize,
+                                 @Value("${review.aggregation.sweep-interval-ms:60000}") long sweepIntervalMillis,
+                                 @Value("${review.aggregation.threads:2}") int threads) {
+        this.fieldRepository = fieldRepository;
+        this.reviewChangeRepository = reviewChangeRepository;
+        this.fieldSurfaceTallyService = fieldSurfaceTallyService;
+        this.eventPublisher = eventPublisher;
+        // 커밋 이후 콜백(호출 스레드에서 즉시 반영)에서도 별도 트랜잭션으로 커밋되도록 REQUIRES_NEW
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.maxPendingFields = maxPendingFields;
+        this.batchSize = batchSize;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "field-review-aggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.eventCounter = meterRegistry.counter("review.aggregation.events");
+        this.flushCounter = meterRegistry.counter("review.aggregation.flushes");
+        this.failureCounter = meterRegistry.counter("review.aggregation.failures");
+        meterRegistry.gauge("review.aggregation.pending.fields", pending, set -> set.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        eventCounter.increment();
+        enqueue(event.fieldId());
+    }
+
+    /**
+     * 기동 후 남아 있는 변경분부터 처리하고, 이후 주기적으로 이벤트 없이 남은 변경분을 다시 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::sweep, 0L, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        if (!pending.isEmpty()) {
+            log.info("Left review changes of {} fields for the next start", pending.size());
+        }
+    }
+
+    /**
+     * 축구장 하나의 대기 중인 변경분을 한 묶음 반영하고 삭제
+     * - 호출자의 트랜잭션에서 축구장 행을 잠근 뒤 호출해야 함 (반영/재계산이 축구장 단위로 직렬화됨)
+     * - 재계산 전인 집계는 반영하지 않고 변경분만 삭제 (재계산이 리뷰로부터 포함)
+     * @return 처리한 변경분 수 (batchSize와 같으면 남은 변경분이 더 있을 수 있음)
+     */
+    public int drain(Long fieldId) {
+        List<ReviewChange> changes = reviewChangeRepository.findByFieldIdOrderByChangeIdAsc(fieldId, Limit.of(batchSize));
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        long ratingDelta = 0;
+        int countDelta = 0;
+        int[] histogramDelta = new int[5];
+        SurfaceTallyDelta surfaceDelta = new SurfaceTallyDelta();
+        for (ReviewChange change : changes) {
+            ratingDelta += change.ratingDelta();
+            countDelta += change.countDelta();
+            if (change.getPreviousRating() != null) {
+                histogramDelta[change.getPreviousRating() - 1]--;
+            }
+            if (change.getRating() != null) {
+                histogramDelta[change.getRating() - 1]++;
+            }
+            if (change.getSurfaceDelta() != null) {
+                surfaceDelta.merge(change.getSurfaceDelta());
+            }
+        }
+
+        if (changesRating(ratingDelta, countDelta, histogramDelta)
+                && fieldRepository.applyRatingDelta(fieldId, ratingDelta, countDelta, histogramDelta) > 0) {
+            eventPublisher.publishEvent(new FieldRatingChangedEvent(fieldId));
+        }
+        fieldSurfaceTallyService.apply(fieldId, surfaceDelta);
+        reviewChangeRepository.deleteByChangeIdIn(changes.stream().map(ReviewChange::getChangeId).toList());
+
+        log.info("Applied {} review changes to field {} (rating {}, count {}, surface {})",
+                changes.size(), fieldId, ratingDelta, countDelta, surfaceDelta.getChanges().size());
+        return changes.size();
+    }
+
+    private static boolean changesRating(long ratingDelta, int countDelta, int[] histogramDelta) {
+        if (ratingDelta != 0 || countDelta != 0) {
+            return true;
+        }
+        for (int delta : histogramDelta) {
+            if (delta != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sweep() {
+        try {
+            List<Long> fieldIds = reviewChangeRepository.findPendingFieldIds(Limit.of(maxPendingFields));
+            fieldIds.forEach(this::enqueue);
+            if (!fieldIds.isEmpty()) {
+                log.info("Found leftover review changes for {} fields", fieldIds.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to look up leftover review changes", e);
+        }
+    }
+
+    private void enqueue(Long fieldId) {
+        if (pending.add(fieldId)) {
+            if (pending.size() > maxPendingFields || executor.isShutdown()) {
+                flush(fieldId);
+            } else {
+                executor.schedule(() -> flush(fieldId), coalesceWindowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void flush(Long fieldId) {
+        // 예약 해제 후 읽으므로 이후 커밋된 변경분은 다음 예약에서 처리
+        pending.remove(fieldId);
+        try {
+            Integer drained;
+            do {
+                drained = transactionTemplate.execute(status -> {
+                    fieldRepository.lockById(fieldId);
+                    return drain(fieldId);
+                });
+                flushCounter.increment();
+            } while (drained != null && drained >= batchSize && !executor.isShutdown());
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            if (executor.isShutdown()) {
+                log.error("Stopped applying review changes to field {} during shutdown", fieldId, e);
+                return;
+            }
+            // 변경분은 삭제되지 않았으므로 지연 후 다시 반영 (호출 스레드에서 반복 실패하지 않도록 상한과 관계없이 예약)
+            log.error("Failed to apply review changes to field {}, retrying", fieldId, e);
+            if (pending.add(fieldId)) {
+                executor.schedule(() -> flush(fieldId), RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+}
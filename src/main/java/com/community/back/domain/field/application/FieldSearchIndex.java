@@ -0,0 +1,238 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.Field;
+import com.community.back.domain.field.domain.FieldStatus;
+import com.community.back.domain.field.domain.event.FieldApprovedEvent;
+import com.community.back.domain.field.domain.repository.FieldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 승인된 축구장 이름/주소 n-gram 역색인
+ * - NFC 정규화 + 소문자 + 공백/기호 제거 후 한 글자(unigram), 두 글자(bigram) 단위로 색인
+ * - 한 글자 검색어는 unigram, 그 외 검색어는 bigram 포스팅으로 후보를 찾음
+ * - 검색어의 gram 포스팅을 짧은 것부터 교집합한 뒤 부분 문자열로 최종 검증
+ * - 승인된 축구장만 색인하므로 상태 필터는 인덱스 안에서 적용됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FieldSearchIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final FieldRepository fieldRepository;
+
+    private final Map<Integer, long[]> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    private record Document(Long fieldId, String name, String address) {
+    }
+
+    private record Match(Long fieldId, int score, int nameLength) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        postings.clear();
+        documents.clear();
+        fieldRepository.findByStatus(FieldStatus.APPROVED).forEach(this::put);
+        log.info("Field search index rebuilt with {} fields, {} grams", documents.size(), postings.size());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFieldApproved(FieldApprovedEvent event) {
+        fieldRepository.findAllById(event.fieldIds()).stream()
+                .filter(field -> field.getStatus() == FieldStatus.APPROVED)
+                .forEach(this::put);
+    }
+
+    public void put(Field field) {
+        remove(field.getFieldId());
+        Document document = new Document(field.getFieldId(), normalize(field.getName()), normalize(field.getAddress()));
+        documents.put(document.fieldId(), document);
+        for (int gram : documentGrams(document)) {
+            postings.compute(gram, (key, ids) -> insert(ids == null ? EMPTY : ids, document.fieldId()));
+        }
+    }
+
+    public void remove(Long fieldId) {
+        Document previous = documents.remove(fieldId);
+        if (previous == null) {
+            return;
+        }
+        for (int gram : documentGrams(previous)) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                long[] next = delete(ids, fieldId);
+                return next.length == 0 ? null : next;
+            });
+        }
+    }
+
+    /**
+     * 키워드 검색
+     * - 점수: 이름 일치(4) > 이름 접두(3) > 이름 포함(2) > 주소 포함(1), 동점이면 짧은 이름, ID 순
+     * @param keyword 검색어
+     * @return 정렬된 축구장 ID 목록 (검색어가 비어 있으면 null)
+     */
+    public List<Long> search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return null;
+        }
+
+        int[] grams = queryGrams(query);
+        long[][] lists = new long[grams.length][];
+        for (int i = 0; i < grams.length; i++) {
+            long[] ids = postings.get(grams[i]);
+            if (ids == null) {
+                return List.of();
+            }
+            lists[i] = ids;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(ids -> ids.length));
+
+        long[] candidates = lists[0];
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists[i]);
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (long id : candidates) {
+            Document document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            int score = score(document, query);
+            if (score > 0) {
+                matches.add(new Match(document.fieldId(), score, document.name().length()));
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::score).reversed()
+                .thenComparingInt(Match::nameLength)
+                .thenComparing(Match::fieldId));
+        return matches.stream().map(Match::fieldId).toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private static int score(Document document, String query) {
+        if (document.name().equals(query)) {
+            return 4;
+        }
+        if (document.name().startsWith(query)) {
+            return 3;
+        }
+        if (document.name().contains(query)) {
+            return 2;
+        }
+        return document.address().contains(query) ? 1 : 0;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase();
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 문서 gram 추출: 이름/주소 각각의 unigram + bigram (중복 제거)
+     */
+    private static int[] documentGrams(Document document) {
+        int[] result = new int[(document.name().length() + document.address().length()) * 2];
+        int count = appendGrams(document.name(), true, result, 0);
+        count = appendGrams(document.address(), true, result, count);
+        return Arrays.stream(result, 0, count).distinct().toArray();
+    }
+
+    /**
+     * 검색어 gram 추출: 한 글자면 unigram, 그 외에는 bigram만 사용
+     */
+    private static int[] queryGrams(String query) {
+        int[] result = new int[query.length() * 2];
+        int count = appendGrams(query, query.length() == 1, result, 0);
+        return Arrays.stream(result, 0, count).distinct().toArray();
+    }
+
+    private static int appendGrams(String text, boolean unigrams, int[] result, int count) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (unigrams) {
+                result[count++] = c;
+            }
+            if (i + 1 < text.length()) {
+                result[count++] = (c << 16) | text.charAt(i + 1);
+            }
+        }
+        return count;
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                result[count++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int position = -index - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, position);
+        next[position] = id;
+        System.arraycopy(ids, position, next, position + 1, ids.length - position);
+        return next;
+    }
+
+    private static long[] delete(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, index);
+        System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+        return next;
+    }
+}
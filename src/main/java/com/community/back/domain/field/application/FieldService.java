@@ -2,20 +2,36 @@ package com.community.back.domain.field.application;
 
 import com.community.back.domain.field.domain.Field;
 import com.community.back.domain.field.domain.FieldStatus;
+import com.community.back.domain.field.domain.event.FieldApprovedEvent;
+import com.community.back.domain.field.domain.event.FieldCreatedEvent;
 import com.community.back.domain.field.domain.repository.FieldRepository;
+import com.community.back.domain.field.presentation.dto.request.BulkApproveFieldRequest;
 import com.community.back.domain.field.presentation.dto.request.CreateFieldRequest;
 import com.community.back.domain.field.presentation.dto.response.ApproveFieldResponse;
+import com.community.back.domain.field.presentation.dto.response.BulkApproveFieldResponse;
 import com.community.back.domain.field.presentation.dto.response.CreateFieldResponse;
+import com.community.back.domain.field.presentation.dto.response.FieldClusterResponse;
 import com.community.back.domain.field.presentation.dto.response.FieldDetailResponse;
 import com.community.back.domain.field.presentation.dto.response.FieldListResponse;
+import com.community.back.domain.field.presentation.dto.response.NearbyFieldResponse;
+import com.community.back.global.dto.CursorPageResponse;
 import com.community.back.global.exception.CustomException;
 import com.community.back.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,18 +40,33 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class FieldService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CLUSTER_TILES = 64;
+    private static final int APPROVE_CHUNK_SIZE = 500;
+
     private final FieldRepository fieldRepository;
-    private final GeocodingService geocodingService;
+    private final FieldSpatialIndex fieldSpatialIndex;
+    private final ApprovedFieldSnapshot approvedFieldSnapshot;
+    private final FieldSearchIndex fieldSearchIndex;
+    private final FieldClusterCache fieldClusterCache;
+    private final FieldJsonCache fieldJsonCache;
+    private final FieldSurfaceTallyService fieldSurfaceTallyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 승인된 축구장 목록 조회
+     * 승인된 축구장 목록 조회 (스냅샷 캐시 사용)
      */
     public List<FieldListResponse> getAllFields() {
         log.info("Fetching all approved fields");
-        return fieldRepository.findByStatus(FieldStatus.APPROVED)
-                .stream()
-                .map(FieldListResponse::from)
-                .collect(Collectors.toList());
+        return approvedFieldSnapshot.get();
+    }
+
+    /**
+     * 승인된 축구장 목록 조회 (직렬화된 JSON + ETag)
+     */
+    public FieldJsonCache.Entry getAllFieldsJson() {
+        log.info("Fetching all approved fields as cached JSON");
+        return fieldJsonCache.getList(approvedFieldSnapshot::get);
     }
 
     /**
@@ -49,6 +80,37 @@ public class FieldService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 승인된 축구장 목록 페이지 조회 (field_id 기준 keyset)
+     */
+    public CursorPageResponse<FieldListResponse> getFieldPage(Long cursor, int size) {
+        log.info("Fetching approved field page: cursor={}, size={}", cursor, size);
+        return getFieldPageByStatus(FieldStatus.APPROVED, cursor, size);
+    }
+
+    /**
+     * 승인 대기 중인 축구장 목록 페이지 조회 (관리자용)
+     */
+    public CursorPageResponse<FieldListResponse> getPendingFieldPage(Long cursor, int size) {
+        log.info("Fetching pending field page: cursor={}, size={}", cursor, size);
+        return getFieldPageByStatus(FieldStatus.PENDING_APPROVAL, cursor, size);
+    }
+
+    private CursorPageResponse<FieldListResponse> getFieldPageByStatus(FieldStatus status, Long cursor, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        Limit limit = Limit.of(size + 1);
+        List<Field> rows = cursor == null
+                ? fieldRepository.findByStatusOrderByFieldIdAsc(status, limit)
+                : fieldRepository.findByStatusAndFieldIdGreaterThanOrderByFieldIdAsc(status, cursor, limit);
+
+        return CursorPageResponse.of(rows, size, FieldListResponse::from,
+                field -> String.valueOf(field.getFieldId()));
+    }
+
     /**
      * 축구장 상세 조회
      */
@@ -62,46 +124,135 @@ public class FieldService {
             throw new CustomException(ErrorCode.FIELD_NOT_FOUND);
         }
 
-        return FieldDetailResponse.from(field);
+        return FieldDetailResponse.from(field, fieldSurfaceTallyService.getConsensus(fieldId));
+    }
+
+    /**
+     * 축구장 상세 조회 (직렬화된 JSON + ETag)
+     */
+    public FieldJsonCache.Entry getFieldByIdJson(Long fieldId) {
+        return fieldJsonCache.getDetail(fieldId, () -> getFieldById(fieldId));
+    }
+
+    /**
+     * 주변 축구장 조회 (거리 오름차순)
+     * - 인메모리 그리드 인덱스로 후보를 추린 뒤 결과 ID만 IN 조회
+     */
+    public List<NearbyFieldResponse> getNearbyFields(double lat, double lng, double radiusKm, int limit) {
+        log.info("Fetching nearby fields: lat={}, lng={}, radiusKm={}, limit={}", lat, lng, radiusKm, limit);
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180
+                || radiusKm <= 0 || radiusKm > 50 || limit <= 0 || limit > 100) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        List<FieldSpatialIndex.Hit> hits = fieldSpatialIndex.nearby(lat, lng, radiusKm, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Field> fieldsById = fieldRepository.findAllById(
+                        hits.stream().map(FieldSpatialIndex.Hit::fieldId).toList())
+                .stream()
+                .collect(Collectors.toMap(Field::getFieldId, Function.identity()));
+
+        return hits.stream()
+                .filter(hit -> {
+                    Field field = fieldsById.get(hit.fieldId());
+                    return field != null && field.getStatus() == FieldStatus.APPROVED;
+                })
+                .map(hit -> NearbyFieldResponse.from(fieldsById.get(hit.fieldId()), hit.distanceKm()))
+                .toList();
+    }
+
+    /**
+     * 지도 영역 클러스터 조회
+     * - bbox가 걸치는 줌 z 타일별 클러스터(캐시)를 모아서 반환
+     * @param bbox "minLng,minLat,maxLng,maxLat"
+     * @param zoom 지도 줌 레벨 (0 ~ 20)
+     */
+    public List<FieldClusterResponse> getFieldClusters(String bbox, int zoom) {
+        log.info("Fetching field clusters: bbox={}, zoom={}", bbox, zoom);
+        double[] bounds = parseBoundingBox(bbox);
+        if (zoom < 0 || zoom > FieldClusterCache.MAX_ZOOM) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        long minX = FieldClusterCache.tileX(bounds[0], zoom);
+        long maxX = FieldClusterCache.tileX(bounds[2], zoom);
+        long minY = FieldClusterCache.tileY(bounds[3], zoom);
+        long maxY = FieldClusterCache.tileY(bounds[1], zoom);
+        if ((maxX - minX + 1) * (maxY - minY + 1) > MAX_CLUSTER_TILES) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        List<FieldClusterResponse> clusters = new ArrayList<>();
+        for (long y = minY; y <= maxY; y++) {
+            for (long x = minX; x <= maxX; x++) {
+                clusters.addAll(fieldClusterCache.getTile(zoom, x, y));
+            }
+        }
+        return clusters;
+    }
+
+    private double[] parseBoundingBox(String bbox) {
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        double[] bounds = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                bounds[i] = Double.parseDouble(parts[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        // minLng, minLat, maxLng, maxLat
+        if (bounds[0] > bounds[2] || bounds[1] > bounds[3]
+                || bounds[0] < -180 || bounds[2] > 180 || bounds[1] < -90 || bounds[3] > 90) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return bounds;
     }
 
     /**
      * 축구장 검색
+     * - n-gram 역색인으로 승인된 축구장 ID를 찾고, 응답은 승인 목록 스냅샷에서 조립 (DB 조회 없음)
      */
     public List<FieldListResponse> searchFields(String keyword) {
         log.info("Searching fields with keyword: {}", keyword);
-        return fieldRepository.findByNameContainingOrAddressContaining(keyword, keyword)
-                .stream()
-                .filter(field -> field.getStatus() == FieldStatus.APPROVED)
-                .map(FieldListResponse::from)
-                .collect(Collectors.toList());
+        ApprovedFieldSnapshot.Snapshot snapshot = approvedFieldSnapshot.current();
+        List<Long> fieldIds = fieldSearchIndex.search(keyword);
+        if (fieldIds == null) {
+            return snapshot.items();
+        }
+        return fieldIds.stream()
+                .map(snapshot.byId()::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
      * 축구장 등록 요청
+     * - 외부 API 호출 없이 GEOCODING_PENDING 상태로 즉시 저장
+     * - 좌표 변환은 커밋 이후 FieldGeocodingWorker가 처리
      */
     @Transactional
     public CreateFieldResponse createField(CreateFieldRequest request) {
         log.info("Creating new field registration request: {}", request.getName());
 
-        // 주소 기반으로 위경도 변환 (Kakao Geocoding API 사용)
-        GeocodingService.Coordinates coordinates = geocodingService.getCoordinatesFromAddress(request.getAddress());
-        Double lat = coordinates.lat;
-        Double lng = coordinates.lng;
-
         Field field = Field.builder()
                 .name(request.getName())
                 .address(request.getAddress())
-                .lat(lat)
-                .lng(lng)
                 .image(request.getImageUrl())
                 .grassType(request.getGrassType())
                 .shoeType(request.getRecommendedShoe())
                 .grassCondition("보통") // 기본값
-                .status(FieldStatus.PENDING_APPROVAL)
+                .status(FieldStatus.GEOCODING_PENDING)
                 .build();
 
         Field savedField = fieldRepository.save(field);
+        eventPublisher.publishEvent(new FieldCreatedEvent(savedField.getFieldId()));
         log.info("Field registration request created with id: {}", savedField.getFieldId());
 
         return CreateFieldResponse.builder()
@@ -110,6 +261,31 @@ public class FieldService {
                 .build();
     }
 
+    /**
+     * 좌표 변환 결과 일괄 반영 (FieldGeocodingWorker 전용)
+     * - 한 트랜잭션에서 dirty checking으로 UPDATE를 묶어 처리 (hibernate.jdbc.batch_size)
+     */
+    @Transactional
+    public void applyGeocodingResults(Map<Long, GeocodingService.Coordinates> coordinatesByFieldId) {
+        fieldRepository.findAllById(coordinatesByFieldId.keySet()).stream()
+                .filter(field -> field.getStatus() == FieldStatus.GEOCODING_PENDING)
+                .forEach(field -> {
+                    GeocodingService.Coordinates coordinates = coordinatesByFieldId.get(field.getFieldId());
+                    field.resolveCoordinates(coordinates.lat, coordinates.lng);
+                });
+    }
+
+    /**
+     * 주소 검색 결과가 없는 축구장의 좌표 변환을 retryAt 이후로 미룸 (FieldGeocodingWorker 전용)
+     * - 기본 좌표를 넣지 않고 GEOCODING_PENDING 상태를 유지하여 승인 대상에서 제외
+     */
+    @Transactional
+    public void deferGeocoding(Collection<Long> fieldIds, LocalDateTime retryAt) {
+        fieldRepository.findAllById(fieldIds).stream()
+                .filter(field -> field.getStatus() == FieldStatus.GEOCODING_PENDING)
+                .forEach(field -> field.deferGeocoding(retryAt));
+    }
+
     /**
      * 축구장 승인 (관리자용)
      */
@@ -120,6 +296,11 @@ public class FieldService {
         Field field = fieldRepository.findById(fieldId)
                 .orElseThrow(() -> new CustomException(ErrorCode.FIELD_NOT_FOUND));
 
+        // 좌표 변환이 끝나지 않은 축구장은 승인 불가
+        if (field.getStatus() == FieldStatus.GEOCODING_PENDING) {
+            throw new CustomException(ErrorCode.FIELD_GEOCODING_PENDING);
+        }
+
         // 이미 승인된 축구장인지 확인
         if (field.getStatus() == FieldStatus.APPROVED) {
             log.warn("Field {} is already approved", fieldId);
@@ -133,6 +314,7 @@ public class FieldService {
         // 승인 처리
         field.approve();
         fieldRepository.save(field);
+        eventPublisher.publishEvent(FieldApprovedEvent.of(field.getFieldId()));
 
         log.info("Field {} approved successfully", fieldId);
 
@@ -142,4 +324,82 @@ public class FieldService {
                 .message("Field approved successfully")
                 .build();
     }
+
+    /**
+     * 축구장 일괄 승인 (관리자용)
+     * - 청크 단위로 ID/상태를 한 번에 조회한 뒤 승인 대기 건만 집합 기반 UPDATE
+     * - 인덱스/캐시 갱신 이벤트는 전체 배치에 대해 한 번만 발행
+     */
+    @Transactional
+    public BulkApproveFieldResponse approveFields(BulkApproveFieldRequest request) {
+        List<Long> fieldIds = request.getFieldIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        log.info("Bulk approving {} fields", fieldIds.size());
+
+        Map<Long, String> outcomes = new HashMap<>();
+        List<Long> approvedIds = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < fieldIds.size(); from += APPROVE_CHUNK_SIZE) {
+            List<Long> chunk = fieldIds.subList(from, Math.min(from + APPROVE_CHUNK_SIZE, fieldIds.size()));
+
+            List<Long> pendingIds = new ArrayList<>();
+            for (FieldRepository.FieldStatusView view : fieldRepository.findStatusesForUpdate(chunk)) {
+                if (view.getStatus() == FieldStatus.PENDING_APPROVAL) {
+                    pendingIds.add(view.getFieldId());
+                } else {
+                    outcomes.put(view.getFieldId(), outcomeOf(view.getStatus()));
+                }
+            }
+
+            if (!pendingIds.isEmpty()) {
+                int updated = fieldRepository.updateStatusIn(
+                        pendingIds, FieldStatus.PENDING_APPROVAL, FieldStatus.APPROVED, now);
+                if (updated == pendingIds.size()) {
+                    pendingIds.forEach(id -> outcomes.put(id, "approved"));
+                    approvedIds.addAll(pendingIds);
+                } else {
+                    // 일부 행이 바뀌지 않았다면 실제 상태를 다시 읽어 행별 결과를 보고
+                    log.warn("Bulk approve chunk updated {} of {} pending fields, re-reading statuses",
+                            updated, pendingIds.size());
+                    for (FieldRepository.FieldStatusView view : fieldRepository.findStatusesForUpdate(pendingIds)) {
+                        if (view.getStatus() == FieldStatus.APPROVED) {
+                            outcomes.put(view.getFieldId(), "approved");
+                            approvedIds.add(view.getFieldId());
+                        } else {
+                            outcomes.put(view.getFieldId(), outcomeOf(view.getStatus()));
+                        }
+                    }
+                }
+            }
+        }
+
+        if (!approvedIds.isEmpty()) {
+            eventPublisher.publishEvent(new FieldApprovedEvent(List.copyOf(approvedIds)));
+        }
+        log.info("Bulk approved {} of {} fields", approvedIds.size(), fieldIds.size());
+
+        List<BulkApproveFieldResponse.Result> results = fieldIds.stream()
+                .map(id -> BulkApproveFieldResponse.Result.builder()
+                        .fieldId(id)
+                        .status(outcomes.getOrDefault(id, "not_found"))
+                        .build())
+                .toList();
+
+        return BulkApproveFieldResponse.builder()
+                .approvedCount(approvedIds.size())
+                .results(results)
+                .build();
+    }
+
+    private static String outcomeOf(FieldStatus status) {
+        return switch (status) {
+            case PENDING_APPROVAL -> "pending_approval";
+            case APPROVED -> "already_approved";
+            case GEOCODING_PENDING -> "geocoding_pending";
+            case REJECTED -> "rejected";
+        };
+    }
 }
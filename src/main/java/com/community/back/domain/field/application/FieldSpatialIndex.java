@@ -0,0 +1,226 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.Field;
+import com.community.back.domain.field.domain.FieldStatus;
+import com.community.back.domain.field.domain.event.FieldApprovedEvent;
+import com.community.back.domain.field.domain.repository.FieldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 승인된 축구장 위경도 그리드 인덱스
+ * - 위경도를 CELL_DEGREES 크기의 격자로 나누어 셀 단위로 보관
+ * - 조회 시 중심 셀에서 바깥 링 방향으로 확장하며 반경/개수 조건을 만족하면 조기 종료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FieldSpatialIndex {
+
+    private static final double CELL_DEGREES = 0.05;
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final FieldRepository fieldRepository;
+
+    private final Map<Long, List<Point>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+
+    public record Point(Long fieldId, double lat, double lng) {
+    }
+
+    public record Hit(Long fieldId, double distanceKm) {
+    }
+
+    /**
+     * 애플리케이션 기동 시 승인된 축구장으로 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Field> fields = fieldRepository.findByStatus(FieldStatus.APPROVED);
+        cells.clear();
+        points.clear();
+        fields.forEach(this::put);
+        log.info("Field spatial index rebuilt with {} fields", points.size());
+    }
+
+    /**
+     * 승인 트랜잭션 커밋 이후 인덱스 반영
+     */
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFieldApproved(FieldApprovedEvent event) {
+        fieldRepository.findAllById(event.fieldIds()).stream()
+                .filter(field -> field.getStatus() == FieldStatus.APPROVED)
+                .forEach(this::put);
+    }
+
+    public void put(Field field) {
+        if (field.getLat() == null || field.getLng() == null) {
+            return;
+        }
+        remove(field.getFieldId());
+        Point point = new Point(field.getFieldId(), field.getLat(), field.getLng());
+        points.put(point.fieldId(), point);
+        cells.compute(cellKey(point.lat(), point.lng()), (key, bucket) -> {
+            List<Point> copy = bucket == null ? new ArrayList<>(1) : new ArrayList<>(bucket);
+            copy.add(point);
+            return List.copyOf(copy);
+        });
+    }
+
+    public void remove(Long fieldId) {
+        Point previous = points.remove(fieldId);
+        if (previous == null) {
+            return;
+        }
+        cells.computeIfPresent(cellKey(previous.lat(), previous.lng()), (key, bucket) -> {
+            List<Point> copy = new ArrayList<>(bucket);
+            copy.removeIf(point -> point.fieldId().equals(fieldId));
+            return copy.isEmpty() ? null : List.copyOf(copy);
+        });
+    }
+
+    /**
+     * 반경 내 가까운 순 k개 조회
+     * @param lat 중심 위도
+     * @param lng 중심 경도
+     * @param radiusKm 검색 반경 (km)
+     * @param limit 최대 개수
+     * @return 거리 오름차순 결과
+     */
+    public List<Hit> nearby(double lat, double lng, double radiusKm, int limit) {
+        // 거리 기준 최대 힙: 현재까지의 후보 중 가장 먼 것이 루트
+        PriorityQueue<Hit> heap = new PriorityQueue<>(
+                Comparator.comparingDouble(Hit::distanceKm).reversed());
+
+        double cellHeightKm = CELL_DEGREES * KM_PER_DEGREE;
+        double cellWidthKm = cellHeightKm * Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        double minCellKm = Math.min(cellHeightKm, cellWidthKm);
+        int maxRing = (int) Math.ceil(radiusKm / minCellKm);
+
+        long centerRow = row(lat);
+        long centerCol = col(lng);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // 링 ring의 셀은 중심에서 최소 (ring - 1) 셀 이상 떨어져 있음
+            double ringMinKm = Math.max(ring - 1, 0) * minCellKm;
+            if (ringMinKm > radiusKm) {
+                break;
+            }
+            if (heap.size() >= limit && ringMinKm > heap.peek().distanceKm()) {
+                break;
+            }
+            for (long r = centerRow - ring; r <= centerRow + ring; r++) {
+                for (long c = centerCol - ring; c <= centerCol + ring; c++) {
+                    if (Math.abs(r - centerRow) != ring && Math.abs(c - centerCol) != ring) {
+                        continue;
+                    }
+                    List<Point> bucket = cells.get(key(r, c));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (Point point : bucket) {
+                        double distance = distanceKm(lat, lng, point.lat(), point.lng());
+                        if (distance > radiusKm) {
+                            continue;
+                        }
+                        if (heap.size() < limit) {
+                            heap.offer(new Hit(point.fieldId(), distance));
+                        } else if (distance < heap.peek().distanceKm()) {
+                            heap.poll();
+                            heap.offer(new Hit(point.fieldId(), distance));
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Hit> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return result;
+    }
+
+    /**
+     * 영역 내 좌표 조회
+     * - 영역이 덮는 셀 수가 전체 좌표 수보다 많으면(저배율 지도) 셀 대신 전체 좌표를 순회
+     */
+    public List<Point> within(double minLat, double minLng, double maxLat, double maxLng) {
+        long minRow = row(minLat);
+        long maxRow = row(maxLat);
+        long minCol = col(minLng);
+        long maxCol = col(maxLng);
+        List<Point> result = new ArrayList<>();
+
+        if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > points.size()) {
+            for (Point point : points.values()) {
+                if (contains(point, minLat, minLng, maxLat, maxLng)) {
+                    result.add(point);
+                }
+            }
+            return result;
+        }
+
+        for (long r = minRow; r <= maxRow; r++) {
+            for (long c = minCol; c <= maxCol; c++) {
+                List<Point> bucket = cells.get(key(r, c));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Point point : bucket) {
+                    if (contains(point, minLat, minLng, maxLat, maxLng)) {
+                        result.add(point);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    private static boolean contains(Point point, double minLat, double minLng, double maxLat, double maxLng) {
+        return point.lat() >= minLat && point.lat() < maxLat
+                && point.lng() >= minLng && point.lng() < maxLng;
+    }
+
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static long row(double lat) {
+        return (long) Math.floor((lat + 90.0) / CELL_DEGREES);
+    }
+
+    private static long col(double lng) {
+        return (long) Math.floor((lng + 180.0) / CELL_DEGREES);
+    }
+
+    private static long cellKey(double lat, double lng) {
+        return key(row(lat), col(lng));
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,100 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.repository.FieldRepository;
+import com.community.back.domain.review.domain.Review;
+import com.community.back.domain.review.domain.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 표면 속성 집계 초기 적재
+ * - 집계 도입 전부터 있던 축구장은 surface_tally_backfilled = false로 시작하며, 그동안 증감분은 반영되지 않음
+ * - 기동 후 별도 스레드에서 field_id 키셋으로 대상을 찾고, 축구장마다 한 트랜잭션에서
+ *   축구장 행 잠금 → 리뷰 공유 잠금 조회 → 이미 커밋된 변경분 처리 → 집계 행 재구성 및 완료 표시
+ *   (재구성에 포함된 리뷰의 변경분이 나중에 다시 더해지지 않도록, 재구성과 같은 트랜잭션에서 변경분을 소진)
+ * - 완료 표시는 축구장별로 커밋되므로 중단/실패 후 재기동하면 남은 축구장부터 이어서 진행
+ * - 다시 적재하려면 fields.surface_tally_backfilled를 false로 바꾸고 재기동
+ */
+@Slf4j
+@Component
+public class FieldSurfaceTallyBackfill {
+
+    private final FieldRepository fieldRepository;
+    private final ReviewRepository reviewRepository;
+    private final FieldReviewAggregator fieldReviewAggregator;
+    private final FieldSurfaceTallyService fieldSurfaceTallyService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public FieldSurfaceTallyBackfill(FieldRepository fieldRepository,
+                                     ReviewRepository reviewRepository,
+                                     FieldReviewAggregator fieldReviewAggregator,
+                                     FieldSurfaceTallyService fieldSurfaceTallyService,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${field.surface-tally.backfill-chunk-size:100}") int chunkSize) {
+        this.fieldRepository = fieldRepository;
+        this.reviewRepository = reviewRepository;
+        this.fieldReviewAggregator = fieldReviewAggregator;
+        this.fieldSurfaceTallyService = fieldSurfaceTallyService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::backfill, "field-surface-tally-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void backfill() {
+        long lastFieldId = 0L;
+        int rebuilt = 0;
+        try {
+            while (true) {
+                List<Long> fieldIds = fieldRepository.findSurfaceTallyBackfillTargets(lastFieldId, chunkSize);
+                if (fieldIds.isEmpty()) {
+                    break;
+                }
+                for (Long fieldId : fieldIds) {
+                    if (rebuild(fieldId)) {
+                        rebuilt++;
+                    }
+                    lastFieldId = fieldId;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Surface tally backfill stopped after field {}", lastFieldId, e);
+            return;
+        }
+
+        if (rebuilt > 0) {
+            log.info("Backfilled surface tallies of {} fields", rebuilt);
+        }
+    }
+
+    private boolean rebuild(Long fieldId) {
+        Boolean done = transactionTemplate.execute(status -> {
+            Boolean backfilled = fieldRepository.lockSurfaceTallyBackfilled(fieldId);
+            if (backfilled == null || backfilled) {
+                return false;
+            }
+            List<Review> reviews = reviewRepository.findByFieldIdForShare(fieldId);
+            // 표면 집계는 반영되지 않고(재구성 전) 평점 등 다른 집계만 반영된 뒤 삭제됨
+            int drained;
+            do {
+                drained = fieldReviewAggregator.drain(fieldId);
+            } while (drained > 0);
+            fieldSurfaceTallyService.rebuild(fieldId, reviews);
+            return true;
+        });
+        return Boolean.TRUE.equals(done);
+    }
+}
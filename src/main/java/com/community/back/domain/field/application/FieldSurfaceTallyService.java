@@ -0,0 +1,123 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.FieldSurfaceTally;
+import com.community.back.domain.field.domain.SurfaceAttribute;
+import com.community.back.domain.field.domain.SurfaceTallyDelta;
+import com.community.back.domain.field.domain.event.FieldSurfaceChangedEvent;
+import com.community.back.domain.field.domain.repository.FieldRepository;
+import com.community.back.domain.field.domain.repository.FieldSurfaceTallyRepository;
+import com.community.back.domain.review.domain.Review;
+import com.community.back.domain.field.presentation.dto.response.SurfaceConsensusResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 구장 표면 속성 집계 서비스
+ * - 리뷰 변경분만 (속성, 값) 행에 더하고 빼므로 리뷰를 다시 읽지 않음
+ * - 기존 리뷰로 재구성하기 전(surface_tally_backfilled = false)인 축구장은 증감분을 반영하지 않고,
+ *   재구성 시 축구장 하나의 리뷰만 다시 읽어 집계 행을 새로 만듦
+ * - 조회 시 축구장 하나의 집계 행(속성 값 종류 수만큼)만 읽어 합의 결과를 구성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FieldSurfaceTallyService {
+
+    private final FieldSurfaceTallyRepository fieldSurfaceTallyRepository;
+    private final FieldRepository fieldRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 증감분 반영
+     */
+    @Transactional
+    public void apply(Long fieldId, SurfaceTallyDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        // 재구성 중이면 끝날 때까지 대기, 재구성 전이면 재구성 결과에 포함되므로 건너뜀
+        if (!Boolean.TRUE.equals(fieldRepository.lockSurfaceTallyBackfilled(fieldId))) {
+            log.debug("Skipped surface tally changes for field {} awaiting backfill", fieldId);
+            return;
+        }
+
+        boolean removed = false;
+        for (Map.Entry<SurfaceTallyDelta.Key, SurfaceTallyDelta.Change> entry : delta.getChanges().entrySet()) {
+            SurfaceTallyDelta.Change change = entry.getValue();
+            fieldSurfaceTallyRepository.applyDelta(fieldId, entry.getKey().attribute().name(),
+                    entry.getKey().value(), change.count(), change.weight());
+            removed |= change.count() < 0;
+        }
+        if (removed) {
+            fieldSurfaceTallyRepository.deleteEmpty(fieldId);
+        }
+
+        log.info("Applied {} surface tally changes to field {}", delta.getChanges().size(), fieldId);
+        eventPublisher.publishEvent(new FieldSurfaceChangedEvent(fieldId));
+    }
+
+    /**
+     * 기존 리뷰로부터 축구장 하나의 집계 재구성 및 완료 표시
+     * - FieldSurfaceTallyBackfill이 축구장 행과 리뷰를 잠근 트랜잭션에서 호출
+     */
+    @Transactional
+    public void rebuild(Long fieldId, List<Review> reviews) {
+        SurfaceTallyDelta delta = new SurfaceTallyDelta();
+        for (Review review : reviews) {
+            delta.merge(SurfaceTallyDelta.ofReview(review.getGrassType(), review.getGrassConditions().getLabels(),
+                    review.getRecommendedShoe(), review.getCreatedAt(), 1));
+        }
+
+        fieldSurfaceTallyRepository.deleteByFieldId(fieldId);
+        delta.getChanges().forEach((key, change) -> fieldSurfaceTallyRepository.applyDelta(
+                fieldId, key.attribute().name(), key.value(), change.count(), change.weight()));
+        fieldRepository.markSurfaceTallyBackfilled(fieldId);
+
+        eventPublisher.publishEvent(new FieldSurfaceChangedEvent(fieldId));
+    }
+
+    /**
+     * 축구장 표면 속성 합의 결과 조회
+     */
+    public SurfaceConsensusResponse getConsensus(Long fieldId) {
+        Map<SurfaceAttribute, List<FieldSurfaceTally>> byAttribute = fieldSurfaceTallyRepository.findByFieldId(fieldId)
+                .stream()
+                .collect(Collectors.groupingBy(FieldSurfaceTally::getAttribute,
+                        () -> new EnumMap<>(SurfaceAttribute.class), Collectors.toList()));
+
+        // 모든 리뷰는 잔디 타입을 하나씩 가지므로 잔디 타입 집계의 합이 전체 리뷰 수와 가중치 합
+        List<FieldSurfaceTally> grassTypes = byAttribute.getOrDefault(SurfaceAttribute.GRASS_TYPE, List.of());
+        long reviewCount = grassTypes.stream().mapToLong(FieldSurfaceTally::getReviewCount).sum();
+        double totalWeight = grassTypes.stream().mapToDouble(FieldSurfaceTally::getWeight).sum();
+
+        return SurfaceConsensusResponse.builder()
+                .reviewCount(reviewCount)
+                .grassTypes(toTallies(grassTypes, totalWeight))
+                .grassConditions(toTallies(
+                        byAttribute.getOrDefault(SurfaceAttribute.GRASS_CONDITION, List.of()), totalWeight))
+                .recommendedShoes(toTallies(
+                        byAttribute.getOrDefault(SurfaceAttribute.RECOMMENDED_SHOE, List.of()), totalWeight))
+                .build();
+    }
+
+    private List<SurfaceConsensusResponse.Tally> toTallies(List<FieldSurfaceTally> tallies, double totalWeight) {
+        return tallies.stream()
+                .sorted(Comparator.comparingDouble(FieldSurfaceTally::getWeight).reversed())
+                .map(tally -> SurfaceConsensusResponse.Tally.builder()
+                        .value(tally.getValue())
+                        .count(tally.getReviewCount())
+                        .share(totalWeight > 0 ? Math.round(tally.getWeight() / totalWeight * 100) / 100.0 : 0)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,143 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.GeocodeCache;
+import com.community.back.domain.field.domain.repository.GeocodeCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 지오코딩 결과 2단계 캐시
+ * - 1차: 크기 제한 LRU (프로세스 메모리)
+ * - 2차: geocode_cache 테이블 (정규화된 주소 키)
+ * - 결과 없음(negative)은 TTL 이후 다시 조회하도록 만료 시각과 함께 저장
+ */
+@Component
+public class GeocodingCache {
+
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final Duration negativeTtl;
+    private final Map<String, Entry> memory;
+
+    private final Counter memoryHitCounter;
+    private final Counter databaseHitCounter;
+    private final Counter missCounter;
+
+    public record Entry(Double lat, Double lng, boolean found, LocalDateTime expiresAt) {
+
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt != null && !expiresAt.isAfter(now);
+        }
+    }
+
+    public GeocodingCache(GeocodeCacheRepository geocodeCacheRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${geocoding.cache.max-size:10000}") int maxSize,
+                          @Value("${geocoding.cache.negative-ttl:PT6H}") Duration negativeTtl) {
+        this.geocodeCacheRepository = geocodeCacheRepository;
+        this.negativeTtl = negativeTtl;
+        this.memory = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.memoryHitCounter = meterRegistry.counter("geocoding.cache.requests", "result", "hit", "tier", "memory");
+        this.databaseHitCounter = meterRegistry.counter("geocoding.cache.requests", "result", "hit", "tier", "database");
+        this.missCounter = meterRegistry.counter("geocoding.cache.requests", "result", "miss", "tier", "none");
+        meterRegistry.gauge("geocoding.cache.memory.size", this, cache -> cache.memorySize());
+    }
+
+    /**
+     * 캐시 조회 (메모리 → DB 순서, 만료된 항목은 miss)
+     */
+    public Optional<Entry> get(String addressKey) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Entry entry;
+        synchronized (memory) {
+            entry = memory.get(addressKey);
+        }
+        if (entry != null && !entry.isExpired(now)) {
+            memoryHitCounter.increment();
+            return Optional.of(entry);
+        }
+
+        Optional<GeocodeCache> stored = geocodeCacheRepository.findById(addressKey)
+                .filter(cache -> !cache.isExpired(now));
+        if (stored.isPresent()) {
+            GeocodeCache cache = stored.get();
+            Entry loaded = new Entry(cache.getLat(), cache.getLng(), cache.isFound(), cache.getExpiresAt());
+            putMemory(addressKey, loaded);
+            databaseHitCounter.increment();
+            return Optional.of(loaded);
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 조회 성공 결과 저장 (만료 없음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void putFound(String addressKey, double lat, double lng) {
+        store(addressKey, new Entry(lat, lng, true, null));
+    }
+
+    /**
+     * 결과 없음 저장 (negative TTL 이후 재조회)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void putNotFound(String addressKey) {
+        store(addressKey, new Entry(null, null, false, LocalDateTime.now().plus(negativeTtl)));
+    }
+
+    /**
+     * 메모리에 먼저 반영한 뒤 별도 트랜잭션으로 DB에 저장
+     * - 저장 실패(동시 저장 충돌 등)는 호출자 트랜잭션에 영향을 주지 않도록 즉시 flush하여 예외로 전달
+     */
+    private void store(String addressKey, Entry entry) {
+        putMemory(addressKey, entry);
+        geocodeCacheRepository.saveAndFlush(GeocodeCache.builder()
+                .addressKey(addressKey)
+                .lat(entry.lat())
+                .lng(entry.lng())
+                .found(entry.found())
+                .expiresAt(entry.expiresAt())
+                .build());
+    }
+
+    private void putMemory(String addressKey, Entry entry) {
+        synchronized (memory) {
+            memory.put(addressKey, entry);
+        }
+    }
+
+    private int memorySize() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    /**
+     * 캐시 키용 주소 정규화 (NFC, 소문자, 연속 공백 축약)
+     */
+    public static String normalize(String address) {
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase();
+        return normalized.length() > 500 ? normalized.substring(0, 500) : normalized;
+    }
+}
@@ -0,0 +1,173 @@
+package com.community.back.domain.field.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Google Geocoding HTTP 클라이언트
+ * - JDK HttpClient 기반 커넥션 재사용 + connect/read 타임아웃
+ * - 벌크헤드: 동시 호출 수를 제한하고 초과 요청은 대기 없이 거절
+ * - 서킷 브레이커: 연속 실패 시 일정 시간 호출을 차단하고, 이후 한 건만 시험 호출
+ */
+@Slf4j
+@Component
+public class GeocodingClient {
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * 서킷 브레이커/벌크헤드에 의해 호출 자체가 거절된 경우
+     */
+    public static class RejectedException extends IllegalStateException {
+
+        public RejectedException(String message) {
+            super(message);
+        }
+    }
+
+    public GeocodingClient(
+            @Value("${google.maps.geocoding.base-url:https://maps.googleapis.com/maps/api/geocode/json}") String baseUrl,
+            @Value("${google.maps.geocoding.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${google.maps.geocoding.read-timeout:PT3S}") Duration readTimeout,
+            @Value("${google.maps.geocoding.max-concurrent-calls:4}") int maxConcurrentCalls,
+            @Value("${google.maps.geocoding.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${google.maps.geocoding.circuit.open-duration:PT30S}") Duration openDuration) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.baseUrl = baseUrl;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+    }
+
+    /**
+     * 주소 지오코딩 요청
+     * @return 응답 본문 (JSON)
+     * @throws RejectedException 서킷 오픈 또는 동시 호출 한도 초과
+     * @throws IllegalStateException 타임아웃, 5xx 등 호출 실패
+     */
+    public String geocode(String address, String apiKey) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new RejectedException("Geocoding circuit is open");
+        }
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.release();
+            throw new RejectedException("Geocoding concurrency limit reached");
+        }
+
+        try {
+            URI uri = UriComponentsBuilder.fromUriString(baseUrl)
+                    .queryParam("address", address)
+                    .queryParam("key", apiKey)
+                    .queryParam("language", "ko")
+                    .queryParam("region", "kr")
+                    .encode()
+                    .build()
+                    .toUri();
+
+            String body = restTemplate.getForObject(uri, String.class);
+            circuitBreaker.onSuccess();
+            return body;
+        } catch (HttpClientErrorException e) {
+            // 4xx는 요청 자체의 문제이므로 서킷 실패로 집계하지 않음
+            circuitBreaker.onSuccess();
+            throw new IllegalStateException("Geocoding request rejected: " + e.getStatusCode(), e);
+        } catch (RestClientException e) {
+            circuitBreaker.onFailure();
+            throw new IllegalStateException("Geocoding request failed: " + e.getMessage(), e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    /**
+     * 연속 실패 기반 서킷 브레이커 (CLOSED → OPEN → HALF_OPEN)
+     */
+    static class CircuitBreaker {
+
+        private enum State { CLOSED, OPEN, HALF_OPEN }
+
+        private final int failureThreshold;
+        private final long openNanos;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        CircuitBreaker(int failureThreshold, Duration openDuration) {
+            this.failureThreshold = failureThreshold;
+            this.openNanos = openDuration.toNanos();
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+            if (state == State.OPEN) {
+                return false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+            }
+            return true;
+        }
+
+        /**
+         * 호출하지 않고 허가를 반납 (벌크헤드 거절 시)
+         */
+        synchronized void release() {
+            if (state == State.HALF_OPEN) {
+                trialInFlight = false;
+            }
+        }
+
+        synchronized void onSuccess() {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+
+        synchronized void onFailure() {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                if (state != State.OPEN) {
+                    log.warn("Geocoding circuit opened after {} consecutive failures", consecutiveFailures);
+                }
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+                trialInFlight = false;
+            }
+        }
+
+        synchronized boolean isOpen() {
+            return state == State.OPEN && System.nanoTime() - openedAt < openNanos;
+        }
+    }
+}
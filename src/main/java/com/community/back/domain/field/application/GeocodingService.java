@@ -2,21 +2,24 @@ package com.community.back.domain.field.application;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeocodingService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GeocodingClient geocodingClient;
+    private final GeocodingCache geocodingCache;
+    private final MeterRegistry meterRegistry;
 
     @Value("${google.maps.api.key:}")
     private String googleMapsApiKey;
@@ -32,58 +35,103 @@ public class GeocodingService {
     }
 
     /**
-     * 주소를 위경도로 변환 (Google Maps Geocoding API 사용)
+     * Google Maps API 키 설정 여부 (없으면 좌표를 조회할 수 없음)
      */
-    public Coordinates getCoordinatesFromAddress(String address) {
-        // Google Maps API 키가 없으면 기본값 반환
-        if (googleMapsApiKey == null || googleMapsApiKey.isEmpty()) {
-            log.warn("Google Maps API key not configured. Using default coordinates (Seoul City Hall)");
-            return new Coordinates(37.5665, 126.9780);
+    public boolean isConfigured() {
+        return googleMapsApiKey != null && !googleMapsApiKey.isEmpty();
+    }
+
+    /**
+     * 주소 좌표 조회
+     * - 정규화된 주소 기준으로 캐시(메모리 → DB)를 먼저 확인
+     * - 결과 없음(ZERO_RESULTS)은 negative TTL 동안만 캐시, 일시적 오류는 캐시하지 않고 예외로 전달
+     * @return 좌표 (결과 없음이면 empty)
+     * @throws IllegalStateException API 키가 없거나 일시적 오류 (기본 좌표로 대체하지 않음)
+     */
+    public Optional<Coordinates> lookup(String address) {
+        if (!isConfigured()) {
+            throw new IllegalStateException("Google Maps API key not configured");
         }
 
-        try {
+        String addressKey = GeocodingCache.normalize(address);
+        Optional<GeocodingCache.Entry> cached = geocodingCache.get(addressKey);
+        if (cached.isPresent()) {
+            GeocodingCache.Entry entry = cached.get();
+            if (entry.found()) {
+                return Optional.of(new Coordinates(entry.lat(), entry.lng()));
+            }
+            log.warn("Cached negative geocoding result for address: {}", address);
+            return Optional.empty();
+        }
 
-            // UriComponentsBuilder를 사용해서 올바른 URL 인코딩
-            String url = UriComponentsBuilder
-                .fromUriString("https://maps.googleapis.com/maps/api/geocode/json")
-                .queryParam("address", address)
-                .queryParam("key", googleMapsApiKey)
-                .queryParam("language", "ko")
-                .queryParam("region", "kr")
-                .build()
-                .toUriString();
-
-            log.info("Google Geocoding API Request URL: {}", url);
-
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-
-            log.info("Google Geocoding API Response: {}", response.getBody());
-
-            JsonNode root = objectMapper.readTree(response.getBody());
-            String status = root.get("status").asText();
-
-            if ("OK".equals(status)) {
-                JsonNode results = root.get("results");
-                if (results != null && results.isArray() && results.size() > 0) {
-                    JsonNode firstResult = results.get(0);
-                    String formattedAddress = firstResult.get("formatted_address").asText();
-                    JsonNode location = firstResult.get("geometry").get("location");
-                    Double lat = location.get("lat").asDouble();
-                    Double lng = location.get("lng").asDouble();
-
-                    log.info("Geocoding success for address '{}': formatted='{}', lat={}, lng={}", address, formattedAddress, lat, lng);
-                    return new Coordinates(lat, lng);
-                }
-            } else {
-                log.warn("Geocoding API returned status: {} for address: {}", status, address);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Coordinates coordinates = requestCoordinates(address);
+            if (coordinates != null) {
+                outcome = "found";
+                storeSafely(() -> geocodingCache.putFound(addressKey, coordinates.lat, coordinates.lng));
+                return Optional.of(coordinates);
             }
 
+            outcome = "not_found";
             log.warn("No geocoding results found for address: {}", address);
-            return new Coordinates(37.5665, 126.9780); // 기본값
+            storeSafely(() -> geocodingCache.putNotFound(addressKey));
+            return Optional.empty();
 
+        } catch (IllegalStateException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Geocoding failed for address: {}. Error: {}", address, e.getMessage());
-            return new Coordinates(37.5665, 126.9780); // 기본값
+            throw new IllegalStateException("Geocoding request failed: " + e.getMessage(), e);
+        } finally {
+            sample.stop(meterRegistry.timer("geocoding.upstream.latency", "outcome", outcome));
+        }
+    }
+
+    /**
+     * Google Geocoding API 호출
+     * @return 좌표 (결과 없음이면 null)
+     * @throws IllegalStateException ZERO_RESULTS 외의 오류 상태
+     */
+    private Coordinates requestCoordinates(String address) throws Exception {
+        // API 키가 포함된 URL과 응답 본문은 로그에 남기지 않음
+        log.debug("Google Geocoding API request for address: {}", address);
+
+        String body = geocodingClient.geocode(address, googleMapsApiKey);
+
+        log.debug("Google Geocoding API response length: {}", body == null ? 0 : body.length());
+
+        JsonNode root = objectMapper.readTree(body);
+        String status = root.get("status").asText();
+
+        if ("OK".equals(status)) {
+            JsonNode results = root.get("results");
+            if (results != null && results.isArray() && results.size() > 0) {
+                JsonNode firstResult = results.get(0);
+                String formattedAddress = firstResult.get("formatted_address").asText();
+                JsonNode location = firstResult.get("geometry").get("location");
+                Double lat = location.get("lat").asDouble();
+                Double lng = location.get("lng").asDouble();
+
+                log.info("Geocoding success for address '{}': formatted='{}', lat={}, lng={}", address, formattedAddress, lat, lng);
+                return new Coordinates(lat, lng);
+            }
+            return null;
+        }
+
+        if ("ZERO_RESULTS".equals(status)) {
+            return null;
+        }
+
+        log.warn("Geocoding API returned status: {} for address: {}", status, address);
+        throw new IllegalStateException("Geocoding API status: " + status);
+    }
+
+    private void storeSafely(Runnable store) {
+        try {
+            store.run();
+        } catch (RuntimeException e) {
+            log.warn("Failed to store geocoding cache entry: {}", e.getMessage());
         }
     }
 }
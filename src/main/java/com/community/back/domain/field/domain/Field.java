@@ -7,9 +7,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
-@Table(name = "fields")
+@Table(name = "fields", indexes = {
+        @Index(name = "idx_fields_status_field_id", columnList = "status, field_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Field {
@@ -25,12 +28,15 @@ public class Field {
     @Column(nullable = false, length = 500)
     private String address;
 
-    @Column(nullable = false)
+    // 좌표 변환(GEOCODING_PENDING) 완료 전까지는 비어 있음
     private Double lat;
 
-    @Column(nullable = false)
     private Double lng;
 
+    // 주소 검색 결과가 없을 때 다음 좌표 변환 시도 시각 (GEOCODING_PENDING 상태에서만 사용)
+    @Column(name = "geocode_retry_at")
+    private LocalDateTime geocodeRetryAt;
+
     @Column(length = 1000)
     private String image;
 
@@ -43,9 +49,40 @@ public class Field {
     @Column(name = "grass_condition", length = 50)
     private String grassCondition;
 
+    // rating_sum / review_count로부터 계산되는 평균 평점 (소수점 첫째 자리)
     @Column(columnDefinition = "DOUBLE DEFAULT 0.0")
     private Double rating;
 
+    @Column(name = "review_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer reviewCount;
+
+    @Column(name = "rating_sum", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long ratingSum;
+
+    // 기존 리뷰로부터 평점 집계를 다시 계산했는지 여부 (false인 동안 증감분을 반영하지 않음, FieldRatingBackfill 참고)
+    @Column(name = "rating_backfilled", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean ratingBackfilled;
+
+    // 평점별(1~5점) 리뷰 수
+    @Column(name = "rating_1_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer rating1Count;
+
+    @Column(name = "rating_2_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer rating2Count;
+
+    @Column(name = "rating_3_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer rating3Count;
+
+    @Column(name = "rating_4_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer rating4Count;
+
+    @Column(name = "rating_5_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer rating5Count;
+
+    // 기존 리뷰로부터 표면 속성 집계를 다시 만들었는지 여부 (false인 동안 증감분을 반영하지 않음, FieldSurfaceTallyBackfill 참고)
+    @Column(name = "surface_tally_backfilled", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean surfaceTallyBackfilled;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private FieldStatus status;
@@ -61,6 +98,34 @@ public class Field {
         if (this.rating == null) {
             this.rating = 0.0;
         }
+        if (this.reviewCount == null) {
+            this.reviewCount = 0;
+        }
+        if (this.ratingSum == null) {
+            this.ratingSum = 0L;
+        }
+        // 새 축구장은 리뷰가 없으므로 초기값(0)이 곧 정확한 집계
+        if (this.ratingBackfilled == null) {
+            this.ratingBackfilled = true;
+        }
+        if (this.surfaceTallyBackfilled == null) {
+            this.surfaceTallyBackfilled = true;
+        }
+        if (this.rating1Count == null) {
+            this.rating1Count = 0;
+        }
+        if (this.rating2Count == null) {
+            this.rating2Count = 0;
+        }
+        if (this.rating3Count == null) {
+            this.rating3Count = 0;
+        }
+        if (this.rating4Count == null) {
+            this.rating4Count = 0;
+        }
+        if (this.rating5Count == null) {
+            this.rating5Count = 0;
+        }
         if (this.status == null) {
             this.status = FieldStatus.PENDING_APPROVAL;
         }
@@ -87,11 +152,42 @@ public class Field {
         this.status = status;
     }
 
-    public void approve() {
-        this.status = FieldStatus.APPROVED;
+    /**
+     * 좌표 반영 (좌표 변환 대기 상태였다면 승인 대기로 전환)
+     */
+    public void resolveCoordinates(Double lat, Double lng) {
+        this.lat = lat;
+        this.lng = lng;
+        this.geocodeRetryAt = null;
+        if (this.status == FieldStatus.GEOCODING_PENDING) {
+            this.status = FieldStatus.PENDING_APPROVAL;
+        }
     }
 
-    public void updateRating(Double rating) {
-        this.rating = rating;
+    /**
+     * 주소 검색 결과가 없어 좌표 변환을 미룸 (좌표 없이 GEOCODING_PENDING 유지)
+     */
+    public void deferGeocoding(LocalDateTime retryAt) {
+        this.geocodeRetryAt = retryAt;
+    }
+
+    /**
+     * 평점별 리뷰 수 (인덱스 0 = 1점 ... 4 = 5점)
+     * - 기존 리뷰로부터 재계산되기 전에는 컬럼 기본값(0)이므로 null
+     */
+    public List<Integer> getRatingHistogram() {
+        if (!Boolean.TRUE.equals(ratingBackfilled)) {
+            return null;
+        }
+        return List.of(countOf(rating1Count), countOf(rating2Count), countOf(rating3Count),
+                countOf(rating4Count), countOf(rating5Count));
+    }
+
+    private static int countOf(Integer count) {
+        return count == null ? 0 : count;
+    }
+
+    public void approve() {
+        this.status = FieldStatus.APPROVED;
     }
 }
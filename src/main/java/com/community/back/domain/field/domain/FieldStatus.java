@@ -1,6 +1,7 @@
 package com.community.back.domain.field.domain;
 
 public enum FieldStatus {
+    GEOCODING_PENDING, // 좌표 변환 대기
     PENDING_APPROVAL,  // 승인 대기
     APPROVED,          // 승인됨
     REJECTED           // 거부됨
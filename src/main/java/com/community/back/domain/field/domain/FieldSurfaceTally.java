@@ -0,0 +1,50 @@
+package com.community.back.domain.field.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 축구장별 표면 속성 집계 (속성, 값) → 리뷰 수, 최근성 가중치 합
+ * - 리뷰 작성/수정/삭제 시 증감분만 원자적으로 반영 (FieldSurfaceTallyRepository#applyDelta)
+ * - weight는 리뷰 작성 시각 기준 forward decay 가중치의 합으로, 같은 속성 안에서의 비율이 최근 리뷰에 더 큰 비중을 둔 점유율이 됨
+ */
+@Entity
+@Table(name = "field_surface_tallies")
+@IdClass(FieldSurfaceTally.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FieldSurfaceTally {
+
+    @Id
+    @Column(name = "field_id")
+    private Long fieldId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private SurfaceAttribute attribute;
+
+    @Id
+    @Column(name = "tally_value", length = 50)
+    private String value;
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    @Column(nullable = false)
+    private Double weight;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long fieldId;
+        private SurfaceAttribute attribute;
+        private String value;
+    }
+}
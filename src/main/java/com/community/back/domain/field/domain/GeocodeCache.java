@@ -0,0 +1,63 @@
+package com.community.back.domain.field.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "geocode_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeocodeCache {
+
+    @Id
+    @Column(name = "address_key", length = 500)
+    private String addressKey;
+
+    private Double lat;
+
+    private Double lng;
+
+    @Column(nullable = false)
+    private boolean found;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public GeocodeCache(String addressKey, Double lat, Double lng, boolean found, LocalDateTime expiresAt) {
+        this.addressKey = addressKey;
+        this.lat = lat;
+        this.lng = lng;
+        this.found = found;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 만료 여부 (expiresAt이 없으면 만료되지 않음)
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
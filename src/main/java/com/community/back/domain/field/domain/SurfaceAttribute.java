@@ -0,0 +1,10 @@
+package com.community.back.domain.field.domain;
+
+/**
+ * 리뷰에서 집계하는 구장 표면 속성
+ */
+public enum SurfaceAttribute {
+    GRASS_TYPE,
+    GRASS_CONDITION,
+    RECOMMENDED_SHOE
+}
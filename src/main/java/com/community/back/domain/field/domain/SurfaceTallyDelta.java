@@ -0,0 +1,97 @@
+package com.community.back.domain.field.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 표면 속성 집계 증감분
+ * - 리뷰 한 건의 속성을 더하거나 빼는 증감분을 만들고, 같은 (속성, 값)끼리 합산
+ * - 가중치는 forward decay: exp((작성 시각 - 기준 시각) / TAU)
+ *   같은 시점의 합끼리 비교하면 exp(-(현재 - 작성 시각) / TAU) 가중 합의 비율과 같으므로 매번 감쇠를 다시 계산할 필요가 없음
+ *   (리뷰를 뺄 때도 작성 시각이 같으므로 더했던 값과 정확히 같은 값을 뺌)
+ */
+public class SurfaceTallyDelta {
+
+    // 가중치 기준 시각과 시간 상수 (저장된 가중치와 맞물리므로 변경 시 전체 재집계 필요)
+    private static final long EPOCH_SECONDS = LocalDateTime.of(2025, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final double TAU_SECONDS = 90d * 24 * 60 * 60;
+
+    public record Key(SurfaceAttribute attribute, String value) {
+    }
+
+    public record Change(int count, double weight) {
+
+        Change plus(Change other) {
+            return new Change(count + other.count, weight + other.weight);
+        }
+
+        // 리뷰 수가 0이면 더했던 가중치를 모두 뺀 것 (부동소수점 합산 순서에 따른 오차는 버림)
+        boolean isZero() {
+            return count == 0;
+        }
+    }
+
+    private final Map<Key, Change> changes = new LinkedHashMap<>();
+
+    /**
+     * 리뷰 한 건의 속성 증감분
+     * @param sign 작성 +1, 삭제 -1
+     */
+    public static SurfaceTallyDelta ofReview(String grassType, Collection<String> grassConditions,
+                                             String recommendedShoe, LocalDateTime createdAt, int sign) {
+        SurfaceTallyDelta delta = new SurfaceTallyDelta();
+        Change change = new Change(sign, sign * weightAt(createdAt));
+        delta.add(SurfaceAttribute.GRASS_TYPE, grassType, change);
+        if (grassConditions != null) {
+            grassConditions.forEach(condition -> delta.add(SurfaceAttribute.GRASS_CONDITION, condition, change));
+        }
+        delta.add(SurfaceAttribute.RECOMMENDED_SHOE, recommendedShoe, change);
+        return delta;
+    }
+
+    /**
+     * 작성 시각의 forward decay 가중치
+     */
+    public static double weightAt(LocalDateTime createdAt) {
+        long seconds = (createdAt == null ? LocalDateTime.now() : createdAt).toEpochSecond(ZoneOffset.UTC);
+        return Math.exp((seconds - EPOCH_SECONDS) / TAU_SECONDS);
+    }
+
+    /**
+     * 다른 증감분 합산 (리뷰 수가 상쇄되어 0이 된 항목은 제거)
+     */
+    public SurfaceTallyDelta merge(SurfaceTallyDelta other) {
+        other.changes.forEach((key, change) -> add(key, change));
+        return this;
+    }
+
+    public Map<Key, Change> getChanges() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    private void add(SurfaceAttribute attribute, String value, Change change) {
+        if (value != null && !value.isBlank()) {
+            add(new Key(attribute, value.strip()), change);
+        }
+    }
+
+    /**
+     * 항목 하나 합산 (리뷰 수가 상쇄되어 0이 되면 제거)
+     */
+    public SurfaceTallyDelta add(Key key, Change change) {
+        Change merged = changes.getOrDefault(key, new Change(0, 0d)).plus(change);
+        if (merged.isZero()) {
+            changes.remove(key);
+        } else {
+            changes.put(key, merged);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,57 @@
+package com.community.back.domain.field.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SurfaceTallyDelta ↔ JSON 텍스트 변환 (review_changes.surface_delta)
+ * - 항목마다 [속성, 값, 리뷰 수, 가중치] 배열 (가중치는 double 그대로 왕복되므로 뺄 때 더했던 값과 같음)
+ */
+@Converter
+public class SurfaceTallyDeltaConverter implements AttributeConverter<SurfaceTallyDelta, String> {
+
+    private static final TypeReference<List<List<Object>>> ENTRIES = new TypeReference<>() {};
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(SurfaceTallyDelta attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        List<List<Object>> entries = new ArrayList<>(attribute.getChanges().size());
+        for (Map.Entry<SurfaceTallyDelta.Key, SurfaceTallyDelta.Change> entry : attribute.getChanges().entrySet()) {
+            entries.add(List.of(entry.getKey().attribute().name(), entry.getKey().value(),
+                    entry.getValue().count(), entry.getValue().weight()));
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(entries);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize surface tally delta", e);
+        }
+    }
+
+    @Override
+    public SurfaceTallyDelta convertToEntityAttribute(String dbData) {
+        SurfaceTallyDelta delta = new SurfaceTallyDelta();
+        if (dbData == null || dbData.isBlank()) {
+            return delta;
+        }
+        try {
+            for (List<Object> entry : OBJECT_MAPPER.readValue(dbData, ENTRIES)) {
+                delta.add(new SurfaceTallyDelta.Key(SurfaceAttribute.valueOf((String) entry.get(0)), (String) entry.get(1)),
+                        new SurfaceTallyDelta.Change(((Number) entry.get(2)).intValue(),
+                                ((Number) entry.get(3)).doubleValue()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot read surface tally delta", e);
+        }
+        return delta;
+    }
+}
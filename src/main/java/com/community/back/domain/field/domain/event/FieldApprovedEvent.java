@@ -0,0 +1,15 @@
+package com.community.back.domain.field.domain.event;
+
+import java.util.List;
+
+/**
+ * 축구장 승인 이벤트
+ * - 트랜잭션 커밋 이후 인메모리 인덱스/캐시 갱신에 사용
+ * @param fieldIds 승인된 축구장 ID 목록
+ */
+public record FieldApprovedEvent(List<Long> fieldIds) {
+
+    public static FieldApprovedEvent of(Long fieldId) {
+        return new FieldApprovedEvent(List.of(fieldId));
+    }
+}
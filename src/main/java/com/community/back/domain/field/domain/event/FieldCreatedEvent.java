@@ -0,0 +1,9 @@
+package com.community.back.domain.field.domain.event;
+
+/**
+ * 축구장 등록 요청 이벤트
+ * - 커밋 이후 좌표 변환 워커를 깨우는 데 사용
+ * @param fieldId 등록된 축구장 ID
+ */
+public record FieldCreatedEvent(Long fieldId) {
+}
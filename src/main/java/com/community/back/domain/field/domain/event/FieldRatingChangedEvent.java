@@ -0,0 +1,9 @@
+package com.community.back.domain.field.domain.event;
+
+/**
+ * 축구장 평점 변경 이벤트
+ * - 리뷰 작성/수정/삭제로 평점이 다시 계산된 뒤 발행
+ * @param fieldId 평점이 변경된 축구장 ID
+ */
+public record FieldRatingChangedEvent(Long fieldId) {
+}
@@ -0,0 +1,9 @@
+package com.community.back.domain.field.domain.event;
+
+/**
+ * 축구장 표면 속성 집계 변경 이벤트
+ * - 리뷰 작성/수정/삭제로 잔디 타입, 잔디 상태, 추천 축구화 집계가 바뀐 뒤 발행
+ * @param fieldId 집계가 변경된 축구장 ID
+ */
+public record FieldSurfaceChangedEvent(Long fieldId) {
+}
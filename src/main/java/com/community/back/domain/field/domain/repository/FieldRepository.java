@@ -2,9 +2,15 @@ package com.community.back.domain.field.domain.repository;
 
 import com.community.back.domain.field.domain.Field;
 import com.community.back.domain.field.domain.FieldStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +19,179 @@ public interface FieldRepository extends JpaRepository<Field, Long> {
     List<Field> findByStatus(FieldStatus status);
 
     List<Field> findByNameContainingOrAddressContaining(String name, String address);
+
+    /**
+     * 상태별 keyset 페이지 조회 (첫 페이지)
+     */
+    List<Field> findByStatusOrderByFieldIdAsc(FieldStatus status, Limit limit);
+
+    /**
+     * 상태별 keyset 페이지 조회 (field_id > cursor)
+     */
+    List<Field> findByStatusAndFieldIdGreaterThanOrderByFieldIdAsc(FieldStatus status, Long fieldId, Limit limit);
+
+    /**
+     * 좌표 변환 대상 keyset 조회 (재시도 시각이 지났거나 아직 시도하지 않은 GEOCODING_PENDING)
+     */
+    @Query("select f from Field f where f.status = :status and f.fieldId > :fieldId " +
+            "and (f.geocodeRetryAt is null or f.geocodeRetryAt <= :now) order by f.fieldId asc")
+    List<Field> findGeocodingDue(@Param("status") FieldStatus status,
+                                 @Param("fieldId") Long fieldId,
+                                 @Param("now") LocalDateTime now,
+                                 Limit limit);
+
+    /**
+     * ID/상태만 잠금 조회 (엔티티 로딩 없이 일괄 승인 결과 분류용)
+     * - SELECT ... FOR UPDATE로 최신 상태를 읽고, 트랜잭션 종료까지 다른 승인/거부와의 경합을 막음
+     */
+    @Query(
+            value = "select field_id as fieldId, status as status from fields " +
+                    "where field_id in (:fieldIds) for update",
+            nativeQuery = true
+    )
+    List<FieldStatusView> findStatusesForUpdate(@Param("fieldIds") Collection<Long> fieldIds);
+
+    /**
+     * 승인 대기 중인 축구장 일괄 승인 (집합 기반 UPDATE)
+     * @return 승인된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Field f set f.status = :approved, f.updatedAt = :now " +
+            "where f.status = :pending and f.fieldId in :fieldIds")
+    int updateStatusIn(@Param("fieldIds") Collection<Long> fieldIds,
+                       @Param("pending") FieldStatus pending,
+                       @Param("approved") FieldStatus approved,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 평점 집계 원자적 갱신
+     * - rating은 갱신 후의 rating_sum / review_count로 계산 (MySQL은 SET 절을 왼쪽부터 적용하므로 rating을 먼저 계산)
+     * - 기존 리뷰로 다시 계산하기 전(rating_backfilled = false)인 축구장은 갱신하지 않음 (재계산 결과에 포함됨)
+     * @param ratingDelta 평점 합계 변화량
+     * @param countDelta 리뷰 수 변화량
+     * @param histogramDelta 1~5점 리뷰 수 변화량 (길이 5)
+     * @return 갱신된 행 수
+     */
+    default int applyRatingDelta(Long fieldId, long ratingDelta, int countDelta, int[] histogramDelta) {
+        return applyRatingDelta(fieldId, ratingDelta, countDelta,
+                histogramDelta[0], histogramDelta[1], histogramDelta[2], histogramDelta[3], histogramDelta[4]);
+    }
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = "update fields set " +
+                    "rating = case when review_count + :countDelta > 0 " +
+                    "then round((rating_sum + :ratingDelta) / (review_count + :countDelta), 1) else 0 end, " +
+                    "rating_sum = rating_sum + :ratingDelta, " +
+                    "review_count = review_count + :countDelta, " +
+                    "rating_1_count = rating_1_count + :delta1, " +
+                    "rating_2_count = rating_2_count + :delta2, " +
+                    "rating_3_count = rating_3_count + :delta3, " +
+                    "rating_4_count = rating_4_count + :delta4, " +
+                    "rating_5_count = rating_5_count + :delta5 " +
+                    "where field_id = :fieldId and rating_backfilled = true",
+            nativeQuery = true
+    )
+    int applyRatingDelta(@Param("fieldId") Long fieldId,
+                         @Param("ratingDelta") long ratingDelta,
+                         @Param("countDelta") int countDelta,
+                         @Param("delta1") int delta1,
+                         @Param("delta2") int delta2,
+                         @Param("delta3") int delta3,
+                         @Param("delta4") int delta4,
+                         @Param("delta5") int delta5);
+
+    /**
+     * 축구장 행 잠금 (변경분 반영과 집계 재계산을 축구장 단위로 직렬화)
+     * @return 축구장 ID (없으면 null)
+     */
+    @Query(
+            value = "select field_id from fields where field_id = :fieldId for update",
+            nativeQuery = true
+    )
+    Long lockById(@Param("fieldId") Long fieldId);
+
+    /**
+     * 평점 집계 재계산 대상 (rating_backfilled = false, field_id 키셋)
+     */
+    @Query(
+            value = "select field_id from fields " +
+                    "where rating_backfilled = false and field_id > :lastFieldId " +
+                    "order by field_id " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<Long> findRatingBackfillTargets(@Param("lastFieldId") Long lastFieldId, @Param("limit") int limit);
+
+    /**
+     * 축구장 행 잠금 (평점 집계 재계산 중 다른 증감분 반영과의 경합 방지)
+     * @return 재계산 완료 여부 (축구장이 없으면 null)
+     */
+    @Query(
+            value = "select rating_backfilled from fields where field_id = :fieldId for update",
+            nativeQuery = true
+    )
+    Boolean lockRatingBackfilled(@Param("fieldId") Long fieldId);
+
+    /**
+     * 재계산한 평점 집계(평점 분포 포함) 저장 및 완료 표시
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = "update fields set " +
+                    "rating = case when :reviewCount > 0 then round(:ratingSum / :reviewCount, 1) else 0 end, " +
+                    "rating_sum = :ratingSum, " +
+                    "review_count = :reviewCount, " +
+                    "rating_1_count = :count1, " +
+                    "rating_2_count = :count2, " +
+                    "rating_3_count = :count3, " +
+                    "rating_4_count = :count4, " +
+                    "rating_5_count = :count5, " +
+                    "rating_backfilled = true " +
+                    "where field_id = :fieldId",
+            nativeQuery = true
+    )
+    int backfillRating(@Param("fieldId") Long fieldId,
+                       @Param("reviewCount") long reviewCount,
+                       @Param("ratingSum") long ratingSum,
+                       @Param("count1") long count1,
+                       @Param("count2") long count2,
+                       @Param("count3") long count3,
+                       @Param("count4") long count4,
+                       @Param("count5") long count5);
+
+    /**
+     * 표면 속성 집계 재구성 대상 (surface_tally_backfilled = false, field_id 키셋)
+     */
+    @Query(
+            value = "select field_id from fields " +
+                    "where surface_tally_backfilled = false and field_id > :lastFieldId " +
+                    "order by field_id " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<Long> findSurfaceTallyBackfillTargets(@Param("lastFieldId") Long lastFieldId, @Param("limit") int limit);
+
+    /**
+     * 축구장 행 잠금 후 표면 속성 집계 재구성 여부 조회 (재구성과 증감분 반영을 직렬화)
+     * @return 재구성 완료 여부 (축구장이 없으면 null)
+     */
+    @Query(
+            value = "select surface_tally_backfilled from fields where field_id = :fieldId for update",
+            nativeQuery = true
+    )
+    Boolean lockSurfaceTallyBackfilled(@Param("fieldId") Long fieldId);
+
+    @Modifying
+    @Query(
+            value = "update fields set surface_tally_backfilled = true where field_id = :fieldId",
+            nativeQuery = true
+    )
+    int markSurfaceTallyBackfilled(@Param("fieldId") Long fieldId);
+
+    interface FieldStatusView {
+        Long getFieldId();
+
+        FieldStatus getStatus();
+    }
 }
@@ -0,0 +1,54 @@
+package com.community.back.domain.field.domain.repository;
+
+import com.community.back.domain.field.domain.FieldSurfaceTally;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FieldSurfaceTallyRepository extends JpaRepository<FieldSurfaceTally, FieldSurfaceTally.Key> {
+
+    List<FieldSurfaceTally> findByFieldId(Long fieldId);
+
+    /**
+     * (축구장, 속성, 값) 집계에 증감분을 원자적으로 반영 (없으면 생성)
+     */
+    @Modifying
+    @Query(
+            value = "insert into field_surface_tallies (field_id, attribute, tally_value, review_count, weight) " +
+                    "values (:fieldId, :attribute, :value, :countDelta, :weightDelta) " +
+                    "on duplicate key update " +
+                    "review_count = review_count + :countDelta, " +
+                    "weight = weight + :weightDelta",
+            nativeQuery = true
+    )
+    int applyDelta(@Param("fieldId") Long fieldId,
+                   @Param("attribute") String attribute,
+                   @Param("value") String value,
+                   @Param("countDelta") int countDelta,
+                   @Param("weightDelta") double weightDelta);
+
+    /**
+     * 축구장의 집계 행 전체 삭제 (재구성 전)
+     */
+    @Modifying
+    @Query(
+            value = "delete from field_surface_tallies where field_id = :fieldId",
+            nativeQuery = true
+    )
+    int deleteByFieldId(@Param("fieldId") Long fieldId);
+
+    /**
+     * 리뷰가 모두 빠진 집계 행 정리
+     */
+    @Modifying
+    @Query(
+            value = "delete from field_surface_tallies where field_id = :fieldId and review_count <= 0",
+            nativeQuery = true
+    )
+    int deleteEmpty(@Param("fieldId") Long fieldId);
+}
@@ -0,0 +1,9 @@
+package com.community.back.domain.field.domain.repository;
+
+import com.community.back.domain.field.domain.GeocodeCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, String> {
+}
@@ -1,11 +1,19 @@
 package com.community.back.domain.field.presentation;
 
+import com.community.back.domain.field.application.FieldJsonCache;
+import com.community.back.domain.field.application.FieldPageService;
 import com.community.back.domain.field.application.FieldService;
+import com.community.back.domain.field.presentation.dto.request.BulkApproveFieldRequest;
 import com.community.back.domain.field.presentation.dto.request.CreateFieldRequest;
 import com.community.back.domain.field.presentation.dto.response.ApproveFieldResponse;
+import com.community.back.domain.field.presentation.dto.response.BulkApproveFieldResponse;
 import com.community.back.domain.field.presentation.dto.response.CreateFieldResponse;
+import com.community.back.domain.field.presentation.dto.response.FieldClusterResponse;
 import com.community.back.domain.field.presentation.dto.response.FieldDetailResponse;
 import com.community.back.domain.field.presentation.dto.response.FieldListResponse;
+import com.community.back.domain.field.presentation.dto.response.FieldPageResponse;
+import com.community.back.domain.field.presentation.dto.response.NearbyFieldResponse;
+import com.community.back.global.dto.CursorPageResponse;
 import com.community.back.global.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,7 +26,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,17 +42,20 @@ import java.util.List;
 public class FieldController {
 
     private final FieldService fieldService;
+    private final FieldPageService fieldPageService;
 
-    @Operation(summary = "축구장 목록 조회", description = "등록된 축구장 목록을 조회합니다. 모든 축구장의 기본 정보를 반환합니다.")
+    @Operation(summary = "축구장 목록 조회", description = "등록된 축구장 목록을 조회합니다. 모든 축구장의 기본 정보를 반환합니다. ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = FieldListResponse.class))))
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = FieldListResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "변경 없음")
     })
     @GetMapping
-    public ResponseEntity<List<FieldListResponse>> getAllFields() {
+    public ResponseEntity<byte[]> getAllFields(
+            @Parameter(description = "이전 응답의 ETag")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("GET /fields - 축구장 목록 조회");
-        List<FieldListResponse> fields = fieldService.getAllFields();
-        return ResponseEntity.ok(fields);
+        return cachedJson(fieldService.getAllFieldsJson(), ifNoneMatch);
     }
 
     @Operation(summary = "승인 대기 중인 축구장 목록 조회", description = "관리자가 승인 대기 중인 축구장 목록을 조회합니다.")
@@ -57,20 +70,110 @@ public class FieldController {
         return ResponseEntity.ok(fields);
     }
 
+    @Operation(summary = "축구장 목록 페이지 조회", description = "승인된 축구장 목록을 커서 기반으로 페이지 단위 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponse<FieldListResponse>> getFieldPage(
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("GET /fields/page?cursor={}&size={} - 축구장 목록 페이지 조회", cursor, size);
+        return ResponseEntity.ok(fieldService.getFieldPage(cursor, size));
+    }
+
+    @Operation(summary = "승인 대기 중인 축구장 목록 페이지 조회", description = "관리자가 승인 대기 중인 축구장 목록을 커서 기반으로 페이지 단위 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/pending/page")
+    public ResponseEntity<CursorPageResponse<FieldListResponse>> getPendingFieldPage(
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("GET /fields/pending/page?cursor={}&size={} - 승인 대기 중인 축구장 목록 페이지 조회", cursor, size);
+        return ResponseEntity.ok(fieldService.getPendingFieldPage(cursor, size));
+    }
+
+    @Operation(summary = "주변 축구장 조회", description = "중심 좌표 기준 반경 내의 승인된 축구장을 가까운 순으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = NearbyFieldResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표 또는 범위",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyFieldResponse>> getNearbyFields(
+            @Parameter(description = "중심 위도", required = true)
+            @RequestParam double lat,
+            @Parameter(description = "중심 경도", required = true)
+            @RequestParam double lng,
+            @Parameter(description = "검색 반경 (km, 최대 50)")
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @Parameter(description = "최대 개수 (최대 100)")
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("GET /fields/nearby?lat={}&lng={}&radiusKm={}&limit={} - 주변 축구장 조회", lat, lng, radiusKm, limit);
+        List<NearbyFieldResponse> fields = fieldService.getNearbyFields(lat, lng, radiusKm, limit);
+        return ResponseEntity.ok(fields);
+    }
+
+    @Operation(summary = "지도 클러스터 조회", description = "지도 영역(bbox)과 줌 레벨에 맞춰 서버에서 집계한 축구장 클러스터를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = FieldClusterResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "잘못된 영역 또는 줌 레벨",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/clusters")
+    public ResponseEntity<List<FieldClusterResponse>> getFieldClusters(
+            @Parameter(description = "지도 영역 (minLng,minLat,maxLng,maxLat)", required = true, example = "126.8,37.4,127.2,37.7")
+            @RequestParam String bbox,
+            @Parameter(description = "줌 레벨 (0 ~ 20)", required = true)
+            @RequestParam int zoom) {
+        log.info("GET /fields/clusters?bbox={}&zoom={} - 지도 클러스터 조회", bbox, zoom);
+        List<FieldClusterResponse> clusters = fieldService.getFieldClusters(bbox, zoom);
+        return ResponseEntity.ok(clusters);
+    }
+
     @Operation(summary = "축구장 상세 조회", description = "특정 축구장의 상세 정보를 조회합니다. 잔디 상태, 추천 축구화 등 상세 정보를 포함합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = FieldDetailResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "404", description = "축구장을 찾을 수 없음",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<FieldDetailResponse> getFieldById(
+    public ResponseEntity<byte[]> getFieldById(
             @Parameter(description = "축구장 ID", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "이전 응답의 ETag")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("GET /fields/{} - 축구장 상세 조회", id);
-        FieldDetailResponse field = fieldService.getFieldById(id);
-        return ResponseEntity.ok(field);
+        return cachedJson(fieldService.getFieldByIdJson(id), ifNoneMatch);
+    }
+
+    @Operation(summary = "축구장 상세 화면 조회", description = "축구장 상세 정보, 첫 페이지 리뷰, 리뷰별 댓글 수, 평점 분포를 한 번에 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = FieldPageResponse.class))),
+            @ApiResponse(responseCode = "404", description = "축구장을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{id}/page")
+    public ResponseEntity<FieldPageResponse> getFieldPage(
+            @Parameter(description = "축구장 ID", required = true)
+            @PathVariable Long id) {
+        log.info("GET /fields/{}/page - 축구장 상세 화면 조회", id);
+        FieldPageResponse response = fieldPageService.getFieldPage(id);
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "축구장 검색", description = "키워드로 축구장을 검색합니다. 이름과 주소에서 키워드를 찾아 일치하는 축구장 목록을 반환합니다.")
@@ -117,4 +220,29 @@ public class FieldController {
         ApproveFieldResponse response = fieldService.approveField(id);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "축구장 일괄 승인", description = "관리자가 여러 축구장 등록 요청을 한 번에 승인합니다. 축구장별 처리 결과를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료",
+                    content = @Content(schema = @Schema(implementation = BulkApproveFieldResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PatchMapping("/approve")
+    public ResponseEntity<BulkApproveFieldResponse> approveFields(
+            @Valid @RequestBody BulkApproveFieldRequest request) {
+        log.info("PATCH /fields/approve - 축구장 일괄 승인: {}건", request.getFieldIds().size());
+        BulkApproveFieldResponse response = fieldService.approveFields(request);
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<byte[]> cachedJson(FieldJsonCache.Entry entry, String ifNoneMatch) {
+        if (entry.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(entry.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.body());
+    }
 }
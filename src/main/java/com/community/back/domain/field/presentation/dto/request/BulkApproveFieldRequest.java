@@ -0,0 +1,22 @@
+package com.community.back.domain.field.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "축구장 일괄 승인 요청")
+public class BulkApproveFieldRequest {
+
+    @NotEmpty(message = "승인할 축구장 ID는 필수입니다")
+    @Size(max = 5000, message = "한 번에 최대 5000개까지 승인할 수 있습니다")
+    @Schema(description = "승인할 축구장 ID 목록", example = "[1, 2, 3]")
+    private List<Long> fieldIds;
+}
@@ -0,0 +1,38 @@
+package com.community.back.domain.field.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "축구장 일괄 승인 응답")
+public class BulkApproveFieldResponse {
+
+    @Schema(description = "이번 요청으로 승인된 축구장 수", example = "2")
+    private Integer approvedCount;
+
+    @Schema(description = "축구장별 처리 결과")
+    private List<Result> results;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "축구장별 승인 결과")
+    public static class Result {
+
+        @Schema(description = "축구장 ID", example = "1")
+        private Long fieldId;
+
+        @Schema(description = "처리 결과", example = "approved",
+                allowableValues = {"approved", "already_approved", "pending_approval", "geocoding_pending", "rejected", "not_found"})
+        private String status;
+    }
+}
@@ -0,0 +1,27 @@
+package com.community.back.domain.field.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지도 축구장 클러스터")
+public class FieldClusterResponse {
+
+    @Schema(description = "클러스터에 포함된 축구장 수", example = "12")
+    private Integer count;
+
+    @Schema(description = "클러스터 중심 위도", example = "37.5683")
+    private Double lat;
+
+    @Schema(description = "클러스터 중심 경도", example = "126.8975")
+    private Double lng;
+
+    @Schema(description = "대표 축구장 (평점이 가장 높은 축구장)")
+    private FieldListResponse representative;
+}
@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -44,7 +46,16 @@ public class FieldDetailResponse {
     @Schema(description = "평점", example = "4.5")
     private Double rating;
 
-    public static FieldDetailResponse from(Field field) {
+    @Schema(description = "리뷰 수 (집계 재계산 전에는 null)", example = "20")
+    private Integer reviewCount;
+
+    @Schema(description = "평점별 리뷰 수 (1점 ~ 5점 순서, 집계 재계산 전에는 null)", example = "[0, 1, 2, 5, 12]")
+    private List<Integer> ratingHistogram;
+
+    @Schema(description = "리뷰 기반 잔디 타입/상태/추천 축구화 집계")
+    private SurfaceConsensusResponse surfaceConsensus;
+
+    public static FieldDetailResponse from(Field field, SurfaceConsensusResponse surfaceConsensus) {
         return FieldDetailResponse.builder()
                 .id(field.getFieldId())
                 .name(field.getName())
@@ -56,6 +67,9 @@ public class FieldDetailResponse {
                 .shoeType(field.getShoeType())
                 .grassCondition(field.getGrassCondition())
                 .rating(field.getRating())
+                .reviewCount(field.getRatingHistogram() == null ? null : field.getReviewCount())
+                .ratingHistogram(field.getRatingHistogram())
+                .surfaceConsensus(surfaceConsensus)
                 .build();
     }
 }
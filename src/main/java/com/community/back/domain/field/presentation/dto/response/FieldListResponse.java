@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -41,6 +43,12 @@ public class FieldListResponse {
     @Schema(description = "평점", example = "4.5")
     private Double rating;
 
+    @Schema(description = "리뷰 수 (집계 재계산 전에는 null)", example = "20")
+    private Integer reviewCount;
+
+    @Schema(description = "평점별 리뷰 수 (1점 ~ 5점 순서, 집계 재계산 전에는 null)", example = "[0, 1, 2, 5, 12]")
+    private List<Integer> ratingHistogram;
+
     public static FieldListResponse from(Field field) {
         return FieldListResponse.builder()
                 .id(field.getFieldId())
@@ -52,6 +60,8 @@ public class FieldListResponse {
                 .grassType(field.getGrassType())
                 .shoeType(field.getShoeType())
                 .rating(field.getRating())
+                .reviewCount(field.getRatingHistogram() == null ? null : field.getReviewCount())
+                .ratingHistogram(field.getRatingHistogram())
                 .build();
     }
 }
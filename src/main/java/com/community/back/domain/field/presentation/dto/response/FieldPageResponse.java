@@ -0,0 +1,28 @@
+package com.community.back.domain.field.presentation.dto.response;
+
+import com.community.back.domain.review.presentation.dto.response.ReviewResponse;
+import com.community.back.global.dto.CursorPageResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "축구장 상세 화면 응답 (상세 + 첫 리뷰 페이지 + 평점 분포)")
+public class FieldPageResponse {
+
+    @Schema(description = "축구장 상세 정보")
+    private FieldDetailResponse field;
+
+    @Schema(description = "첫 페이지 리뷰 목록 (최신순, 리뷰별 댓글 수 포함, nextCursor를 리뷰 목록 조회의 cursor로 전달)")
+    private CursorPageResponse<ReviewResponse> reviews;
+
+    @Schema(description = "평점별 리뷰 수 (key: 1~5)", example = "{\"1\": 0, \"2\": 1, \"3\": 2, \"4\": 5, \"5\": 9}")
+    private Map<Integer, Long> ratingDistribution;
+}
@@ -0,0 +1,46 @@
+package com.community.back.domain.field.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "리뷰 기반 구장 표면 집계 (최근 리뷰 가중 점유율 내림차순)")
+public class SurfaceConsensusResponse {
+
+    @Schema(description = "집계에 포함된 리뷰 수", example = "12")
+    private long reviewCount;
+
+    @Schema(description = "잔디 타입별 집계")
+    private List<Tally> grassTypes;
+
+    @Schema(description = "잔디 상태 특징별 집계 (복수 선택이므로 점유율 합이 1을 넘을 수 있음)")
+    private List<Tally> grassConditions;
+
+    @Schema(description = "추천 축구화별 집계")
+    private List<Tally> recommendedShoes;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "속성 값별 집계")
+    public static class Tally {
+
+        @Schema(description = "값", example = "AG")
+        private String value;
+
+        @Schema(description = "이 값을 선택한 리뷰 수", example = "8")
+        private long count;
+
+        @Schema(description = "최근 리뷰에 가중치를 둔 점유율 (0 ~ 1)", example = "0.72")
+        private double share;
+    }
+}
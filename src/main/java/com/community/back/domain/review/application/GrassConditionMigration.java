@@ -0,0 +1,128 @@
+package com.community.back.domain.review.application;
+
+import com.community.back.domain.review.domain.GrassConditions;
+import com.community.back.domain.review.domain.repository.ReviewRepository;
+import com.community.back.domain.review.domain.repository.ReviewRepository.LegacyGrassConditions;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기존 grass_conditions(JSON 텍스트) → grass_condition_mask(비트마스크) 이관
+ * - 기동 후 별도 스레드에서 review_id 키셋으로 청크 단위 처리, 청크마다 짧은 트랜잭션으로 커밋
+ * - 마스크가 채워진 행은 건너뛰므로 중단 후 재기동해도 이어서 진행
+ * - 태그 목록(GrassConditionTag)에 없는 라벨이 있거나 JSON을 읽을 수 없는 행은 마스크를 NULL로 두고
+ *   기존 컬럼을 그대로 사용 (라벨을 버리지 않음)
+ */
+@Slf4j
+@Component
+public class GrassConditionMigration {
+
+    private static final TypeReference<List<String>> LABELS = new TypeReference<>() {};
+
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int chunkSize;
+
+    public GrassConditionMigration(ReviewRepository reviewRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${review.grass-condition-migration.chunk-size:500}") int chunkSize) {
+        this.reviewRepository = reviewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::migrate, "grass-condition-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void migrate() {
+        long lastReviewId = 0L;
+        int migrated = 0;
+        int unmapped = 0;
+        try {
+            while (true) {
+                long afterReviewId = lastReviewId;
+                Chunk chunk = transactionTemplate.execute(status -> migrateChunk(afterReviewId));
+                if (chunk == null || chunk.rows() == 0) {
+                    break;
+                }
+                migrated += chunk.rows() - chunk.unmapped();
+                unmapped += chunk.unmapped();
+                lastReviewId = chunk.lastReviewId();
+            }
+        } catch (RuntimeException e) {
+            log.error("Grass condition migration stopped after review {}", lastReviewId, e);
+            return;
+        }
+
+        if (migrated > 0 || unmapped > 0) {
+            log.info("Migrated grass conditions of {} reviews ({} kept on the legacy column)", migrated, unmapped);
+        }
+    }
+
+    /**
+     * 한 청크 이관 (잠금 조회 → 같은 마스크끼리 묶어 UPDATE, 청크당 UPDATE 수 최소화)
+     */
+    private Chunk migrateChunk(long afterReviewId) {
+        List<LegacyGrassConditions> rows = reviewRepository.findUnmigratedGrassConditions(afterReviewId, chunkSize);
+        if (rows.isEmpty()) {
+            return new Chunk(0, afterReviewId, 0);
+        }
+
+        Map<Long, List<Long>> idsByMask = new HashMap<>();
+        int unmapped = 0;
+        for (LegacyGrassConditions row : rows) {
+            List<String> labels = parse(row);
+            GrassConditions conditions = labels == null ? null : GrassConditions.ofLabels(labels);
+            if (conditions == null || !conditions.isMapped()) {
+                unmapped++;
+                continue;
+            }
+            idsByMask.computeIfAbsent(conditions.getMask(), key -> new ArrayList<>()).add(row.getReviewId());
+        }
+        idsByMask.forEach((mask, reviewIds) -> reviewRepository.updateGrassConditionMask(reviewIds, mask));
+        return new Chunk(rows.size(), rows.get(rows.size() - 1).getReviewId(), unmapped);
+    }
+
+    private record Chunk(int rows, long lastReviewId, int unmapped) {
+    }
+
+    private List<String> parse(LegacyGrassConditions row) {
+        List<String> labels = parse(row.getGrassConditions());
+        if (labels == null) {
+            log.warn("Unreadable grass conditions on review {}", row.getReviewId());
+        }
+        return labels;
+    }
+
+    /**
+     * @return 라벨 목록 (JSON을 읽을 수 없으면 null)
+     */
+    private List<String> parse(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, LABELS);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
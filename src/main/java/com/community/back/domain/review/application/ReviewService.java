@@ -1,18 +1,27 @@
 package com.community.back.domain.review.application;
 
+import com.community.back.domain.comment.domain.repository.CommentRepository;
+import com.community.back.domain.field.domain.SurfaceTallyDelta;
+import com.community.back.domain.review.domain.GrassConditions;
 import com.community.back.domain.review.domain.Review;
+import com.community.back.domain.review.domain.ReviewChange;
+import com.community.back.domain.review.domain.ReviewSort;
+import com.community.back.domain.review.domain.event.ReviewChangedEvent;
+import com.community.back.domain.review.domain.repository.ReviewChangeRepository;
 import com.community.back.domain.review.domain.repository.ReviewRepository;
 import com.community.back.domain.review.presentation.dto.request.CreateReviewRequest;
 import com.community.back.domain.review.presentation.dto.request.UpdateReviewRequest;
 import com.community.back.domain.review.presentation.dto.response.ReviewResponse;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.community.back.global.dto.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -21,50 +30,107 @@ import java.util.List;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final ReviewChangeRepository reviewChangeRepository;
+    private final CommentRepository commentRepository;
     private final com.community.back.domain.field.domain.repository.FieldRepository fieldRepository;
-    private final com.community.back.domain.auth.domain.repository.UserRepository userRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    public List<ReviewResponse> getReviewsByFieldId(Long fieldId, Long lastId) {
-        log.info("Fetching reviews for field: {} with lastId: {}", fieldId, lastId);
-
-        List<Review> reviews;
-        if(lastId == null)
-            reviews = reviewRepository.findAllInfiniteScroll(fieldId, 10L);
-        else
-            reviews = reviewRepository.findAllInfiniteScroll(fieldId, 10L, lastId);
-
-        return reviews.stream()
-                .map(review -> {
-                    String userName = userRepository.findById(String.valueOf(review.getUserId()))
-                            .map(com.community.back.domain.auth.domain.User::getName)
-                            .orElse("알 수 없음");
-                    return ReviewResponse.from(review, userName);
-                })
-                .toList();
+    private final com.community.back.domain.auth.application.UserNameResolver userNameResolver;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final String CURSOR_DELIMITER = ":";
+
+    /**
+     * 축구장 리뷰 페이지 조회 (정렬 방식별 keyset)
+     * @param sort 정렬 방식 (latest, rating_desc, rating_asc, 기본 latest)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    public CursorPageResponse<ReviewResponse> getReviewsByFieldId(Long fieldId, String sort, String cursor, int size) {
+        log.info("Fetching reviews for field: {} with sort: {}, cursor: {}, size: {}", fieldId, sort, cursor, size);
+
+        ReviewSort reviewSort = ReviewSort.from(sort);
+        if (reviewSort == null || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new com.community.back.global.exception.CustomException(
+                    com.community.back.global.exception.ErrorCode.INVALID_INPUT);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        long limit = size + 1L;
+        List<Review> rows = switch (reviewSort) {
+            case LATEST -> cursor == null
+                    ? reviewRepository.findAllInfiniteScroll(fieldId, limit)
+                    : reviewRepository.findAllInfiniteScroll(fieldId, limit, parseLong(cursor));
+            case RATING_DESC -> cursor == null
+                    ? reviewRepository.findAllByRatingDesc(fieldId, limit)
+                    : reviewRepository.findAllByRatingDesc(fieldId, limit, ratingOf(cursor), reviewIdOf(cursor));
+            case RATING_ASC -> cursor == null
+                    ? reviewRepository.findAllByRatingAsc(fieldId, limit)
+                    : reviewRepository.findAllByRatingAsc(fieldId, limit, ratingOf(cursor), reviewIdOf(cursor));
+        };
+
+        // 작성자 이름 일괄 조회
+        java.util.Map<Long, String> userNames = userNameResolver.resolveAll(
+                rows.stream().map(Review::getUserId).toList());
+
+        // 페이지 리뷰들의 댓글 수 일괄 조회 (GROUP BY 한 번)
+        Map<Long, Long> commentCounts = countComments(rows.stream().map(Review::getReviewId).toList());
+
+        return CursorPageResponse.of(rows, size,
+                review -> ReviewResponse.from(review, userNames.get(review.getUserId()),
+                        commentCounts.getOrDefault(review.getReviewId(), 0L)),
+                review -> reviewSort == ReviewSort.LATEST
+                        ? String.valueOf(review.getReviewId())
+                        : review.getRating() + CURSOR_DELIMITER + review.getReviewId());
+    }
+
+    /**
+     * 리뷰별 댓글 수 (댓글이 없는 리뷰는 맵에 포함되지 않음)
+     */
+    private Map<Long, Long> countComments(List<Long> reviewIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (!reviewIds.isEmpty()) {
+            commentRepository.countByReviewIdIn(reviewIds)
+                    .forEach(count -> counts.put(count.getReviewId(), count.getCount()));
+        }
+        return counts;
+    }
+
+    // 평점순 커서 형식: "평점:review_id"
+    private static Integer ratingOf(String cursor) {
+        int delimiter = cursor.indexOf(CURSOR_DELIMITER);
+        if (delimiter <= 0) {
+            throw new com.community.back.global.exception.CustomException(
+                    com.community.back.global.exception.ErrorCode.INVALID_INPUT);
+        }
+        return (int) parseLong(cursor.substring(0, delimiter));
+    }
+
+    private static Long reviewIdOf(String cursor) {
+        return parseLong(cursor.substring(cursor.indexOf(CURSOR_DELIMITER) + 1));
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new com.community.back.global.exception.CustomException(
+                    com.community.back.global.exception.ErrorCode.INVALID_INPUT);
+        }
     }
 
     @Transactional
     public ReviewResponse createReview(Long fieldId, CreateReviewRequest request, Long userId) {
         log.info("Creating review for field: {} by user: {}", fieldId, userId);
 
-        // 축구장 존재 여부 확인
-        fieldRepository.findById(fieldId)
-                .orElseThrow(() -> new com.community.back.global.exception.CustomException(
-                        com.community.back.global.exception.ErrorCode.FIELD_NOT_FOUND));
-
-        // grassConditions 리스트를 JSON 문자열로 변환
-        String grassConditionsJson = null;
-        if (request.getGrassConditions() != null && !request.getGrassConditions().isEmpty()) {
-            try {
-                grassConditionsJson = objectMapper.writeValueAsString(request.getGrassConditions());
-            } catch (JsonProcessingException e) {
-                log.error("Failed to convert grass conditions to JSON", e);
-                throw new com.community.back.global.exception.CustomException(
-                        com.community.back.global.exception.ErrorCode.INTERNAL_SERVER_ERROR);
-            }
+        // 축구장 존재 여부 확인 (엔티티를 영속성 컨텍스트에 올리지 않음)
+        if (!fieldRepository.existsById(fieldId)) {
+            throw new com.community.back.global.exception.CustomException(
+                    com.community.back.global.exception.ErrorCode.FIELD_NOT_FOUND);
         }
 
+        // grassConditions 라벨을 태그 비트마스크로 변환 (태그 목록에 없는 라벨이 있으면 기존 컬럼에 저장)
+        GrassConditions grassConditions = GrassConditions.ofLabels(request.getGrassConditions());
+
         // 리뷰 생성
         Review review = Review.builder()
                 .fieldId(fieldId)
@@ -72,7 +138,7 @@ public class ReviewService {
                 .content(request.getContent())
                 .rating(request.getRating())
                 .grassType(request.getGrassType())
-                .grassConditions(grassConditionsJson)
+                .grassConditions(grassConditions)
                 .recommendedShoe(request.getRecommendedShoe())
                 .shoeLink(request.getShoeLink())
                 .build();
@@ -80,40 +146,36 @@ public class ReviewService {
         Review savedReview = reviewRepository.save(review);
         log.info("Review created successfully with id: {}", savedReview.getReviewId());
 
-        // 축구장 평점 업데이트
-        updateFieldRating(fieldId);
+        // 축구장 평점/표면 집계는 커밋 이후 FieldReviewAggregator가 반영
+        publishChange(new ReviewChangedEvent(fieldId, savedReview.getReviewId(),
+                ReviewChangedEvent.Type.CREATED, null, savedReview.getRating(), surfaceDelta(savedReview, 1)));
 
         // userName 조회 및 추가
-        String userName = userRepository.findById(String.valueOf(userId))
-                .map(com.community.back.domain.auth.domain.User::getName)
-                .orElse("알 수 없음");
+        String userName = userNameResolver.resolve(userId);
 
-        return ReviewResponse.from(savedReview, userName);
+        // 새 리뷰에는 아직 댓글이 없음
+        return ReviewResponse.from(savedReview, userName, 0L);
     }
 
-    private void updateFieldRating(Long fieldId) {
-        List<Review> reviews = reviewRepository.findByFieldId(fieldId);
-        if (!reviews.isEmpty()) {
-            double averageRating = reviews.stream()
-                    .mapToInt(Review::getRating)
-                    .average()
-                    .orElse(0.0);
-
-            com.community.back.domain.field.domain.Field field = fieldRepository.findById(fieldId)
-                    .orElseThrow(() -> new com.community.back.global.exception.CustomException(
-                            com.community.back.global.exception.ErrorCode.FIELD_NOT_FOUND));
+    /**
+     * 리뷰 변경분을 같은 트랜잭션에 저장하고 이벤트 발행 (반영은 커밋 이후 FieldReviewAggregator)
+     */
+    private void publishChange(ReviewChangedEvent event) {
+        reviewChangeRepository.save(ReviewChange.from(event));
+        eventPublisher.publishEvent(event);
+    }
 
-            field.updateRating(Math.round(averageRating * 10) / 10.0);
-            log.info("Updated field {} rating to {}", fieldId, field.getRating());
-        }
+    private static SurfaceTallyDelta surfaceDelta(Review review, int sign) {
+        return SurfaceTallyDelta.ofReview(review.getGrassType(), review.getGrassConditions().getLabels(),
+                review.getRecommendedShoe(), review.getCreatedAt(), sign);
     }
 
     @Transactional
     public ReviewResponse updateReview(Long reviewId, UpdateReviewRequest request, Long userId) {
         log.info("Updating review: {} by user: {}", reviewId, userId);
 
-        // 리뷰 조회
-        Review review = reviewRepository.findById(reviewId)
+        // 리뷰 잠금 조회 (이전 평점/표면 값 기준의 증감분이 동시 수정과 겹치지 않도록)
+        Review review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new com.community.back.global.exception.CustomException(
                         com.community.back.global.exception.ErrorCode.REVIEW_NOT_FOUND));
 
@@ -123,40 +185,35 @@ public class ReviewService {
                     com.community.back.global.exception.ErrorCode.UNAUTHORIZED_REVIEW_ACCESS);
         }
 
-        // grassConditions 리스트를 JSON 문자열로 변환
-        String grassConditionsJson = null;
-        if (request.getGrassConditions() != null && !request.getGrassConditions().isEmpty()) {
-            try {
-                grassConditionsJson = objectMapper.writeValueAsString(request.getGrassConditions());
-            } catch (JsonProcessingException e) {
-                log.error("Failed to convert grass conditions to JSON", e);
-                throw new com.community.back.global.exception.CustomException(
-                        com.community.back.global.exception.ErrorCode.INTERNAL_SERVER_ERROR);
-            }
-        }
+        // grassConditions 라벨을 태그 비트마스크로 변환 (태그 목록에 없는 라벨이 있으면 기존 컬럼에 저장)
+        GrassConditions grassConditions = GrassConditions.ofLabels(request.getGrassConditions());
 
         // 리뷰 수정
+        int previousRating = review.getRating();
+        SurfaceTallyDelta surfaceDelta = surfaceDelta(review, -1);
         review.update(request.getContent(), request.getRating(), request.getGrassType(),
-                grassConditionsJson, request.getRecommendedShoe(), request.getShoeLink());
+                grassConditions, request.getRecommendedShoe(), request.getShoeLink());
+        // 응답에 갱신된 수정일시가 담기도록 즉시 반영
+        reviewRepository.flush();
         log.info("Review {} updated successfully", reviewId);
 
-        // 축구장 평점 업데이트
-        updateFieldRating(review.getFieldId());
+        // 축구장 평점/표면 집계는 커밋 이후 반영 (이전 값 제거 + 새 값 추가, 바뀌지 않은 값은 상쇄)
+        publishChange(new ReviewChangedEvent(review.getFieldId(), reviewId,
+                ReviewChangedEvent.Type.UPDATED, previousRating, review.getRating(),
+                surfaceDelta.merge(surfaceDelta(review, 1))));
 
         // userName 조회 및 추가
-        String userName = userRepository.findById(String.valueOf(review.getUserId()))
-                .map(com.community.back.domain.auth.domain.User::getName)
-                .orElse("알 수 없음");
+        String userName = userNameResolver.resolve(review.getUserId());
 
-        return ReviewResponse.from(review, userName);
+        return ReviewResponse.from(review, userName, commentRepository.countByReviewId(reviewId));
     }
 
     @Transactional
     public void deleteReview(Long reviewId, Long userId) {
         log.info("Deleting review: {} by user: {}", reviewId, userId);
 
-        // 리뷰 조회
-        Review review = reviewRepository.findById(reviewId)
+        // 리뷰 잠금 조회 (이전 평점/표면 값 기준의 증감분이 동시 수정과 겹치지 않도록)
+        Review review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new com.community.back.global.exception.CustomException(
                         com.community.back.global.exception.ErrorCode.REVIEW_NOT_FOUND));
 
@@ -167,12 +224,15 @@ public class ReviewService {
         }
 
         Long fieldId = review.getFieldId();
+        int rating = review.getRating();
+        SurfaceTallyDelta surfaceDelta = surfaceDelta(review, -1);
 
         // 리뷰 삭제
         reviewRepository.delete(review);
         log.info("Review {} deleted successfully", reviewId);
 
-        // 축구장 평점 업데이트
-        updateFieldRating(fieldId);
+        // 축구장 평점/표면 집계와 댓글 정리는 커밋 이후 반영
+        publishChange(new ReviewChangedEvent(fieldId, reviewId,
+                ReviewChangedEvent.Type.DELETED, rating, null, surfaceDelta));
     }
 }
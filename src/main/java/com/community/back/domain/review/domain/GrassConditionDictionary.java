@@ -0,0 +1,162 @@
+package com.community.back.domain.review.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 잔디 상태 태그 사전 (불변, 비트 위치 ↔ 라벨)
+ * - 기본 사전은 {@link GrassConditionTag} 목록으로 만들며 실행 중에 바뀌지 않음
+ * - 마스크별 디코딩 결과를 캐시 (캐시된 라벨 리스트 재사용으로 할당 없음)
+ */
+public final class GrassConditionDictionary {
+
+    // BIGINT 마스크의 비트 수
+    public static final int MAX_TAGS = Long.SIZE;
+    public static final int MAX_LABEL_LENGTH = 50;
+
+    // 디코딩 캐시 상한 (실제 조합 수는 훨씬 적음, 초과 시 캐시 없이 디코딩)
+    private static final int MAX_CACHED_MASKS = 4096;
+
+    public static final GrassConditionDictionary DEFAULT = of(GrassConditionTag.labelsByBit());
+
+    private static volatile GrassConditionDictionary current = DEFAULT;
+
+    private final String[] labels;
+    private final Map<String, Integer> bits;
+    private final ConcurrentHashMap<Long, GrassConditions> decoded;
+
+    private GrassConditionDictionary(String[] labels) {
+        this.labels = labels;
+        this.bits = new HashMap<>();
+        for (int bit = 0; bit < labels.length; bit++) {
+            if (labels[bit] != null) {
+                bits.put(labels[bit], bit);
+            }
+        }
+        this.decoded = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 비트 → 라벨 목록으로 생성
+     * @throws IllegalArgumentException 비트가 범위를 벗어나거나 라벨이 중복된 경우
+     */
+    public static GrassConditionDictionary of(Map<Integer, String> labelsByBit) {
+        int size = labelsByBit.keySet().stream().mapToInt(bit -> bit + 1).max().orElse(0);
+        if (size > MAX_TAGS || labelsByBit.keySet().stream().anyMatch(bit -> bit < 0)) {
+            throw new IllegalArgumentException("Grass condition bit out of range: " + labelsByBit.keySet());
+        }
+        String[] labels = new String[size];
+        labelsByBit.forEach((bit, label) -> labels[bit] = label);
+        GrassConditionDictionary dictionary = new GrassConditionDictionary(labels);
+        if (dictionary.bits.size() != labelsByBit.size()) {
+            throw new IllegalArgumentException("Duplicate grass condition label: " + labelsByBit.values());
+        }
+        return dictionary;
+    }
+
+    /**
+     * JPA 컨버터 등 정적 경로에서 사용하는 사전
+     */
+    public static GrassConditionDictionary current() {
+        return current;
+    }
+
+    /**
+     * 사전 교체 (테스트/벤치마크용)
+     */
+    static void install(GrassConditionDictionary dictionary) {
+        current = dictionary;
+    }
+
+    /**
+     * 라벨 정규화 (앞뒤 공백 제거, 빈 라벨은 null)
+     */
+    public static String normalize(String label) {
+        if (label == null) {
+            return null;
+        }
+        String stripped = label.strip();
+        return stripped.isEmpty() ? null : stripped;
+    }
+
+    /**
+     * @return 라벨의 비트 위치 (사전에 없으면 -1)
+     */
+    public int bitOf(String label) {
+        Integer bit = bits.get(label);
+        return bit == null ? -1 : bit;
+    }
+
+    /**
+     * @return 비트 위치의 라벨 (사전에 없으면 null)
+     */
+    public String labelOf(int bit) {
+        return bit < labels.length ? labels[bit] : null;
+    }
+
+    public int size() {
+        return bits.size();
+    }
+
+    /**
+     * 비트마스크 디코딩
+     * - 사전에 없는 비트는 무시 (비트는 재사용하지 않으므로 태그를 추가한 버전이 쓴 마스크를 이전 버전이 읽는 경우뿐)
+     */
+    public GrassConditions decode(long mask) {
+        if (mask == 0L) {
+            return GrassConditions.EMPTY;
+        }
+        GrassConditions cached = decoded.get(mask);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<String> result = new ArrayList<>(Long.bitCount(mask));
+        for (int bit = 0; bit < MAX_TAGS; bit++) {
+            if ((mask & (1L << bit)) != 0) {
+                String label = labelOf(bit);
+                if (label != null) {
+                    result.add(label);
+                }
+            }
+        }
+        GrassConditions conditions = new GrassConditions(true, mask, List.copyOf(result));
+        if (decoded.size() < MAX_CACHED_MASKS) {
+            decoded.putIfAbsent(mask, conditions);
+        }
+        return conditions;
+    }
+
+    /**
+     * 라벨 목록 인코딩
+     * - 모든 라벨이 사전에 있으면 비트마스크 값 (사전의 비트 순서)
+     * - 사전에 없는 라벨이 있으면 비트마스크로 표현할 수 없는 값 (입력 순서, 중복 제거)
+     */
+    public GrassConditions encode(Collection<String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return GrassConditions.EMPTY;
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        long mask = 0L;
+        boolean mapped = true;
+        for (String label : labels) {
+            String value = normalize(label);
+            if (value == null || !normalized.add(value)) {
+                continue;
+            }
+            int bit = bitOf(value);
+            if (bit < 0) {
+                mapped = false;
+            } else {
+                mask |= 1L << bit;
+            }
+        }
+        return mapped ? decode(mask) : new GrassConditions(false, 0L, List.copyOf(normalized));
+    }
+}
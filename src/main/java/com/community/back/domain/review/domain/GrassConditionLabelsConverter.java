@@ -0,0 +1,45 @@
+package com.community.back.domain.review.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * 라벨 목록 ↔ 기존 grass_conditions (JSON 텍스트) 변환
+ * - 비트마스크로 표현할 수 없는 리뷰와 아직 이관되지 않은 리뷰에서만 사용
+ */
+@Converter
+public class GrassConditionLabelsConverter implements AttributeConverter<List<String>, String> {
+
+    private static final TypeReference<List<String>> LABELS = new TypeReference<>() {};
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize grass conditions", e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(dbData, LABELS);
+        } catch (JsonProcessingException e) {
+            // JSON 파싱 실패 시 빈 리스트 사용 (기존 동작과 동일)
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.community.back.domain.review.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 잔디 상태 태그 목록 (grass_condition_mask의 비트 위치 ↔ 라벨)
+ * - 코드로 고정된 목록이므로 모든 인스턴스가 같은 사전을 사용하며, 사용자 입력으로 늘어나지 않음
+ * - 목록에 없는 라벨은 비트마스크 없이 기존 grass_conditions 컬럼에 저장
+ * - 비트는 저장된 마스크의 의미이므로 새 태그는 사용하지 않은 비트로 추가하고, 기존 비트는 바꾸거나 재사용하지 않음
+ */
+public enum GrassConditionTag {
+
+    HARD(0, "딱딱함"),
+    CUSHIONED(1, "푹신함"),
+    SHORT_GRASS(2, "잔디 짧음"),
+    LONG_GRASS(3, "잔디 김"),
+    SLIPPERY(4, "미끄러움"),
+    UNEVEN(5, "바닥 고르지 않음"),
+    BALD_PATCHES(6, "잔디 빠짐"),
+    PUDDLES(7, "물 고임"),
+    RUBBER_CRUMBS(8, "고무칩 많음"),
+    SANDY(9, "모래 많음"),
+    WORN(10, "잔디 마모"),
+    WELL_MAINTAINED(11, "관리 양호"),
+    SOFT(12, "부드러움");
+
+    private final int bit;
+    private final String label;
+
+    GrassConditionTag(int bit, String label) {
+        this.bit = bit;
+        this.label = label;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 비트 → 라벨 (사전 생성용)
+     */
+    static Map<Integer, String> labelsByBit() {
+        Map<Integer, String> labelsByBit = new HashMap<>();
+        for (GrassConditionTag tag : values()) {
+            labelsByBit.put(tag.bit, tag.label);
+        }
+        return labelsByBit;
+    }
+}
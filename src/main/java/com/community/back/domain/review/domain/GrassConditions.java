@@ -0,0 +1,95 @@
+package com.community.back.domain.review.domain;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리뷰의 잔디 상태 태그 집합 (불변 값 객체)
+ * - 모든 라벨이 태그 목록(GrassConditionTag)에 있으면 비트마스크로 저장하고, 디코딩 결과는 사전이 마스크별로 캐시
+ * - 목록에 없는 라벨이 있으면 비트마스크로 표현할 수 없으며, 라벨 목록 그대로 기존 grass_conditions 컬럼에 저장
+ */
+public final class GrassConditions {
+
+    public static final GrassConditions EMPTY = new GrassConditions(true, 0L, List.of());
+
+    private final boolean mapped;
+    private final long mask;
+    private final List<String> labels;
+
+    GrassConditions(boolean mapped, long mask, List<String> labels) {
+        this.mapped = mapped;
+        this.mask = mask;
+        this.labels = labels;
+    }
+
+    /**
+     * 태그 사전으로 비트마스크 디코딩
+     */
+    public static GrassConditions ofMask(long mask) {
+        return GrassConditionDictionary.current().decode(mask);
+    }
+
+    /**
+     * 태그 사전으로 라벨 목록 인코딩 (사전에 없는 라벨이 있으면 비트마스크로 표현할 수 없는 값)
+     */
+    public static GrassConditions ofLabels(Collection<String> labels) {
+        return GrassConditionDictionary.current().encode(labels);
+    }
+
+    /**
+     * 기존 grass_conditions 컬럼의 라벨 목록 그대로 (비트마스크 이관 전이거나 이관할 수 없는 리뷰)
+     */
+    public static GrassConditions ofLegacy(List<String> labels) {
+        return labels == null || labels.isEmpty() ? EMPTY : new GrassConditions(false, 0L, List.copyOf(labels));
+    }
+
+    /**
+     * 비트마스크로 표현 가능 여부
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * @return 비트마스크 (표현할 수 없는 값이면 0)
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * 태그 라벨 목록 (비트마스크 값은 사전의 bit 순서, 불변)
+     */
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    public boolean contains(String label) {
+        return labels.contains(label);
+    }
+
+    public boolean isEmpty() {
+        return labels.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GrassConditions other) || mapped != other.mapped) {
+            return false;
+        }
+        return mapped ? mask == other.mask : labels.equals(other.labels);
+    }
+
+    @Override
+    public int hashCode() {
+        return mapped ? Long.hashCode(mask) : labels.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return labels.toString();
+    }
+}
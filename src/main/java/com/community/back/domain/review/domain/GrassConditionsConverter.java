@@ -0,0 +1,22 @@
+package com.community.back.domain.review.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * GrassConditions ↔ grass_condition_mask (BIGINT) 변환
+ * - 비트마스크로 표현할 수 없는 값과 이관 전 행은 NULL (라벨은 기존 grass_conditions 컬럼에 있음)
+ */
+@Converter
+public class GrassConditionsConverter implements AttributeConverter<GrassConditions, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(GrassConditions attribute) {
+        return attribute == null || !attribute.isMapped() ? null : attribute.getMask();
+    }
+
+    @Override
+    public GrassConditions convertToEntityAttribute(Long dbData) {
+        return dbData == null ? null : GrassConditions.ofMask(dbData);
+    }
+}
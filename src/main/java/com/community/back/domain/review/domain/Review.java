@@ -7,9 +7,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // 축구장별 리뷰 무한 스크롤 (field_id = ? and review_id < ? order by review_id desc)
+        @Index(name = "idx_reviews_field_id_review_id", columnList = "field_id, review_id"),
+        // 평점순 정렬 (rating_desc는 역방향, rating_asc는 정방향 스캔)
+        @Index(name = "idx_reviews_field_id_rating_review_id", columnList = "field_id, rating, review_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review {
@@ -34,8 +40,16 @@ public class Review {
     @Column(name = "grass_type", nullable = false, length = 10)
     private String grassType;
 
+    // 잔디 상태 태그 비트마스크 (기존 grass_conditions JSON 컬럼은 GrassConditionMigration이 이관)
+    @Convert(converter = GrassConditionsConverter.class)
+    @Column(name = "grass_condition_mask")
+    private GrassConditions grassConditions;
+
+    // 비트마스크가 NULL인 리뷰(이관 전이거나 사전에 없는 라벨이 있는 경우)의 라벨 목록
+    @Getter(AccessLevel.NONE)
+    @Convert(converter = GrassConditionLabelsConverter.class)
     @Column(name = "grass_conditions", columnDefinition = "TEXT")
-    private String grassConditions;
+    private List<String> legacyGrassConditions;
 
     @Column(name = "recommended_shoe", nullable = false, length = 10)
     private String recommendedShoe;
@@ -51,6 +65,9 @@ public class Review {
 
     @PrePersist
     protected void onCreate() {
+        if (this.grassConditions == null && this.legacyGrassConditions == null) {
+            this.grassConditions = GrassConditions.EMPTY;
+        }
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -62,23 +79,40 @@ public class Review {
 
     @Builder
     public Review(Long fieldId, Long userId, String content, Integer rating,
-                  String grassType, String grassConditions, String recommendedShoe, String shoeLink) {
+                  String grassType, GrassConditions grassConditions, String recommendedShoe, String shoeLink) {
         this.fieldId = fieldId;
         this.userId = userId;
         this.content = content;
         this.rating = rating;
         this.grassType = grassType;
-        this.grassConditions = grassConditions;
+        applyGrassConditions(grassConditions);
         this.recommendedShoe = recommendedShoe;
         this.shoeLink = shoeLink;
     }
 
+    public GrassConditions getGrassConditions() {
+        return grassConditions == null ? GrassConditions.ofLegacy(legacyGrassConditions) : grassConditions;
+    }
+
+    /**
+     * 비트마스크로 표현할 수 있으면 마스크만, 아니면 마스크 없이 기존 컬럼에 라벨 목록 저장
+     */
+    private void applyGrassConditions(GrassConditions conditions) {
+        if (conditions == null || conditions.isMapped()) {
+            this.grassConditions = conditions;
+            this.legacyGrassConditions = null;
+        } else {
+            this.grassConditions = null;
+            this.legacyGrassConditions = conditions.getLabels();
+        }
+    }
+
     public void update(String content, Integer rating, String grassType,
-                      String grassConditions, String recommendedShoe, String shoeLink) {
+                      GrassConditions grassConditions, String recommendedShoe, String shoeLink) {
         this.content = content;
         this.rating = rating;
         this.grassType = grassType;
-        this.grassConditions = grassConditions;
+        applyGrassConditions(grassConditions);
         this.recommendedShoe = recommendedShoe;
         this.shoeLink = shoeLink;
     }
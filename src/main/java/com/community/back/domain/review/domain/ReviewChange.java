@@ -0,0 +1,80 @@
+package com.community.back.domain.review.domain;
+
+import com.community.back.domain.field.domain.SurfaceTallyDelta;
+import com.community.back.domain.field.domain.SurfaceTallyDeltaConverter;
+import com.community.back.domain.review.domain.event.ReviewChangedEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 축구장 집계에 아직 반영되지 않은 리뷰 변경분 (outbox)
+ * - 리뷰 작성/수정/삭제와 같은 트랜잭션에서 INSERT되므로, 커밋된 리뷰 변경은 재기동/비정상 종료 후에도 남음
+ * - FieldReviewAggregator가 축구장별로 모아 반영하고 같은 트랜잭션에서 삭제
+ */
+@Entity
+@Table(name = "review_changes", indexes = {
+        // 축구장별 대기 변경분 조회 (field_id = ? order by change_id)
+        @Index(name = "idx_review_changes_field_id_change_id", columnList = "field_id, change_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long changeId;
+
+    @Column(name = "field_id", nullable = false)
+    private Long fieldId;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    // 변경 전 평점 (작성 시 null)
+    @Column(name = "previous_rating")
+    private Integer previousRating;
+
+    // 변경 후 평점 (삭제 시 null)
+    private Integer rating;
+
+    @Convert(converter = SurfaceTallyDeltaConverter.class)
+    @Column(name = "surface_delta", columnDefinition = "TEXT")
+    private SurfaceTallyDelta surfaceDelta;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static ReviewChange from(ReviewChangedEvent event) {
+        ReviewChange change = new ReviewChange();
+        change.fieldId = event.fieldId();
+        change.reviewId = event.reviewId();
+        change.previousRating = event.previousRating();
+        change.rating = event.rating();
+        change.surfaceDelta = event.surfaceDelta();
+        return change;
+    }
+
+    /**
+     * 평점 합계 변화량
+     */
+    public long ratingDelta() {
+        return (rating == null ? 0 : rating) - (previousRating == null ? 0 : previousRating);
+    }
+
+    /**
+     * 리뷰 수 변화량
+     */
+    public int countDelta() {
+        return (rating == null ? 0 : 1) - (previousRating == null ? 0 : 1);
+    }
+}
@@ -0,0 +1,31 @@
+package com.community.back.domain.review.domain;
+
+import java.util.Locale;
+
+/**
+ * 리뷰 목록 정렬 방식
+ * - LATEST: review_id 내림차순, 커서 = review_id
+ * - RATING_DESC: 평점 내림차순 → review_id 내림차순, 커서 = "평점:review_id"
+ * - RATING_ASC: 평점 오름차순 → review_id 오름차순, 커서 = "평점:review_id"
+ * 모두 (field_id, rating, review_id) 또는 (field_id, review_id) 인덱스를 따라 읽으므로 페이지 깊이와 무관하게 비용이 일정함
+ */
+public enum ReviewSort {
+    LATEST,
+    RATING_DESC,
+    RATING_ASC;
+
+    /**
+     * 요청 파라미터 값으로 조회 (latest, rating_desc, rating_asc)
+     * @return 알 수 없는 값이면 null
+     */
+    public static ReviewSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return LATEST;
+        }
+        try {
+            return valueOf(value.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
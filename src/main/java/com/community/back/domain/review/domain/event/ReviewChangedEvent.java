@@ -0,0 +1,24 @@
+package com.community.back.domain.review.domain.event;
+
+import com.community.back.domain.field.domain.SurfaceTallyDelta;
+
+/**
+ * 리뷰 변경 이벤트
+ * - 리뷰 작성/수정/삭제 트랜잭션에서 변경분(ReviewChange) 저장과 함께 발행되고,
+ *   커밋 이후 축구장 파생 데이터(평점, 표면 집계, 캐시) 갱신과 댓글 정리의 시작 신호로 사용
+ * @param fieldId 리뷰 대상 축구장 ID
+ * @param reviewId 변경된 리뷰 ID
+ * @param type 변경 종류
+ * @param previousRating 변경 전 평점 (작성 시 null)
+ * @param rating 변경 후 평점 (삭제 시 null)
+ * @param surfaceDelta 표면 속성 집계 변화량
+ */
+public record ReviewChangedEvent(Long fieldId, Long reviewId, Type type,
+                                 Integer previousRating, Integer rating, SurfaceTallyDelta surfaceDelta) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
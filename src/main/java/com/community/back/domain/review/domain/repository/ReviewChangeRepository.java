@@ -0,0 +1,34 @@
+package com.community.back.domain.review.domain.repository;
+
+import com.community.back.domain.review.domain.ReviewChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReviewChangeRepository extends JpaRepository<ReviewChange, Long> {
+
+    /**
+     * 축구장의 대기 중인 변경분 (오래된 순)
+     */
+    List<ReviewChange> findByFieldIdOrderByChangeIdAsc(Long fieldId, Limit limit);
+
+    /**
+     * 대기 중인 변경분이 있는 축구장 (재기동 후/주기적 재처리 대상)
+     */
+    @Query("select distinct c.fieldId from ReviewChange c")
+    List<Long> findPendingFieldIds(Limit limit);
+
+    /**
+     * 반영한 변경분 삭제 (PK 조건이므로 해당 행만 잠금)
+     */
+    @Modifying
+    @Query("delete from ReviewChange c where c.changeId in :changeIds")
+    int deleteByChangeIdIn(@Param("changeIds") Collection<Long> changeIds);
+}
@@ -1,18 +1,77 @@
 package com.community.back.domain.review.domain.repository;
 
 import com.community.back.domain.review.domain.Review;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     List<Review> findByFieldId(Long fieldId);
 
+    /**
+     * 축구장의 평점별 리뷰 수 (GROUP BY rating)
+     * - 평점 분포가 아직 재계산되지 않은 축구장용 (FieldRatingBackfill 참고)
+     */
+    @Query("select r.rating as rating, count(r) as count from Review r " +
+            "where r.fieldId = :fieldId group by r.rating")
+    List<RatingCount> countByRating(@Param("fieldId") Long fieldId);
+
+    interface RatingCount {
+        Integer getRating();
+
+        Long getCount();
+    }
+
+    /**
+     * 수정/삭제용 잠금 조회 (SELECT ... FOR UPDATE)
+     * - 이전 값으로 계산하는 집계 증감분이 동시 수정에 의해 중복 반영되지 않도록 트랜잭션 종료까지 행을 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Review r where r.reviewId = :reviewId")
+    Optional<Review> findByIdForUpdate(@Param("reviewId") Long reviewId);
+
+    /**
+     * 축구장의 모든 리뷰 (공유 잠금 읽기, 표면 속성 집계 재구성용)
+     * - 최신 커밋 값을 읽고, 트랜잭션 종료까지 해당 축구장의 리뷰 작성/수정/삭제를 대기시킴
+     */
+    @Query(
+            value = "select * from reviews where field_id = :fieldId for share",
+            nativeQuery = true
+    )
+    List<Review> findByFieldIdForShare(@Param("fieldId") Long fieldId);
+
+    /**
+     * 축구장 리뷰 수/평점 합계/평점별 리뷰 수 (공유 잠금 읽기)
+     * - 최신 커밋 값을 읽고, 트랜잭션 종료까지 해당 축구장의 리뷰 작성/수정/삭제를 대기시킴
+     */
+    @Query(
+            value = "select count(*) as reviewCount, coalesce(sum(rating), 0) as ratingSum, " +
+                    "coalesce(sum(case when rating = 1 then 1 else 0 end), 0) as rating1Count, " +
+                    "coalesce(sum(case when rating = 2 then 1 else 0 end), 0) as rating2Count, " +
+                    "coalesce(sum(case when rating = 3 then 1 else 0 end), 0) as rating3Count, " +
+                    "coalesce(sum(case when rating = 4 then 1 else 0 end), 0) as rating4Count, " +
+                    "coalesce(sum(case when rating = 5 then 1 else 0 end), 0) as rating5Count " +
+                    "from reviews where field_id = :fieldId for share",
+            nativeQuery = true
+    )
+    RatingAggregate aggregateRatingForShare(@Param("fieldId") Long fieldId);
+
+    /**
+     * 주어진 ID 중 존재하는 리뷰 ID (IN 쿼리 한 번으로 존재 여부 확인)
+     */
+    @Query("select r.reviewId from Review r where r.reviewId in :reviewIds")
+    List<Long> findExistingIds(@Param("reviewIds") Collection<Long> reviewIds);
+
     @Query(
             value = "select * from reviews " +
                     "where field_id = :fieldId " +
@@ -37,4 +96,110 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             @Param("limit") Long limit,
             @Param("lastReviewId") Long lastReviewId
     );
+
+    /**
+     * 평점 높은 순 (rating desc, review_id desc)
+     */
+    @Query(
+            value = "select * from reviews " +
+                    "where field_id = :fieldId " +
+                    "order by rating desc, review_id desc " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<Review> findAllByRatingDesc(
+            @Param("fieldId") Long fieldId,
+            @Param("limit") Long limit
+    );
+
+    @Query(
+            value = "select * from reviews " +
+                    "where field_id = :fieldId " +
+                    "and (rating < :lastRating or (rating = :lastRating and review_id < :lastReviewId)) " +
+                    "order by rating desc, review_id desc " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<Review> findAllByRatingDesc(
+            @Param("fieldId") Long fieldId,
+            @Param("limit") Long limit,
+            @Param("lastRating") Integer lastRating,
+            @Param("lastReviewId") Long lastReviewId
+    );
+
+    /**
+     * 평점 낮은 순 (rating asc, review_id asc)
+     */
+    @Query(
+            value = "select * from reviews " +
+                    "where field_id = :fieldId " +
+                    "order by rating asc, review_id asc " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<Review> findAllByRatingAsc(
+            @Param("fieldId") Long fieldId,
+            @Param("limit") Long limit
+    );
+
+    @Query(
+            value = "select * from reviews " +
+                    "where field_id = :fieldId " +
+                    "and (rating > :lastRating or (rating = :lastRating and review_id > :lastReviewId)) " +
+                    "order by rating asc, review_id asc " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<Review> findAllByRatingAsc(
+            @Param("fieldId") Long fieldId,
+            @Param("limit") Long limit,
+            @Param("lastRating") Integer lastRating,
+            @Param("lastReviewId") Long lastReviewId
+    );
+
+    /**
+     * 잔디 상태 비트마스크로 이관되지 않은 리뷰 (review_id 오름차순 키셋, 잠금 조회)
+     * - 이관 트랜잭션이 끝날 때까지 리뷰 수정이 기다리므로 읽은 라벨과 다른 값으로 마스크를 덮어쓰지 않음
+     */
+    @Query(
+            value = "select review_id as reviewId, grass_conditions as grassConditions from reviews " +
+                    "where grass_condition_mask is null and review_id > :lastReviewId " +
+                    "order by review_id " +
+                    "limit :limit for update",
+            nativeQuery = true
+    )
+    List<LegacyGrassConditions> findUnmigratedGrassConditions(
+            @Param("lastReviewId") Long lastReviewId,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query(
+            value = "update reviews set grass_condition_mask = :mask " +
+                    "where review_id in (:reviewIds) and grass_condition_mask is null",
+            nativeQuery = true
+    )
+    int updateGrassConditionMask(@Param("reviewIds") Collection<Long> reviewIds, @Param("mask") long mask);
+
+    interface RatingAggregate {
+        Long getReviewCount();
+
+        Long getRatingSum();
+
+        Long getRating1Count();
+
+        Long getRating2Count();
+
+        Long getRating3Count();
+
+        Long getRating4Count();
+
+        Long getRating5Count();
+    }
+
+    interface LegacyGrassConditions {
+        Long getReviewId();
+
+        String getGrassConditions();
+    }
 }
@@ -4,10 +4,10 @@ import com.community.back.domain.review.application.ReviewService;
 import com.community.back.domain.review.presentation.dto.request.CreateReviewRequest;
 import com.community.back.domain.review.presentation.dto.request.UpdateReviewRequest;
 import com.community.back.domain.review.presentation.dto.response.ReviewResponse;
+import com.community.back.global.dto.CursorPageResponse;
 import com.community.back.global.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -22,8 +22,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -32,19 +30,30 @@ public class ReviewController {
 
     private final ReviewService reviewService;
 
-    @Operation(summary = "리뷰 목록 조회", description = "특정 축구장의 리뷰 목록을 조회합니다. 무한 스크롤을 위해 lastId를 사용합니다.")
+    @Operation(summary = "리뷰 목록 조회", description = "특정 축구장의 리뷰 목록을 조회합니다. sort는 latest(최신순), rating_desc(평점 높은 순), rating_asc(평점 낮은 순) 중 하나입니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하고, hasNext가 false이면 마지막 페이지입니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReviewResponse.class))))
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 정렬 방식, 커서 또는 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/fields/{fieldId}/reviews")
-    public ResponseEntity<List<ReviewResponse>> getReviews(
+    public ResponseEntity<CursorPageResponse<ReviewResponse>> getReviews(
             @Parameter(description = "축구장 ID", required = true)
             @PathVariable Long fieldId,
-            @Parameter(description = "마지막 리뷰 ID (무한 스크롤용)", required = false)
-            @RequestParam(required = false) Long lastId) {
-        log.info("GET /fields/{}/reviews?lastId={} - 리뷰 목록 조회", fieldId, lastId);
-        List<ReviewResponse> reviews = reviewService.getReviewsByFieldId(fieldId, lastId);
+            @Parameter(description = "정렬 방식 (latest, rating_desc, rating_asc)")
+            @RequestParam(defaultValue = "latest") String sort,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)", required = false)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "마지막 리뷰 ID (latest 정렬의 기존 커서, cursor가 없을 때만 사용)", required = false)
+            @RequestParam(required = false) Long lastId,
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("GET /fields/{}/reviews?sort={}&cursor={}&lastId={}&size={} - 리뷰 목록 조회",
+                fieldId, sort, cursor, lastId, size);
+        if (cursor == null && lastId != null) {
+            cursor = String.valueOf(lastId);
+        }
+        CursorPageResponse<ReviewResponse> reviews = reviewService.getReviewsByFieldId(fieldId, sort, cursor, size);
         return ResponseEntity.ok(reviews);
     }
 
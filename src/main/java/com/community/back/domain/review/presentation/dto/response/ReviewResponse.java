@@ -1,9 +1,6 @@
 package com.community.back.domain.review.presentation.dto.response;
 
 import com.community.back.domain.review.domain.Review;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +8,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -51,6 +47,9 @@ public class ReviewResponse {
     @Schema(description = "추천 축구화 링크", example = "https://www.nike.com/shoes")
     private String shoeLink;
 
+    @Schema(description = "댓글 수 (대댓글 포함)", example = "3")
+    private Long commentCount;
+
     @Schema(description = "작성일시")
     private LocalDateTime createdAt;
 
@@ -58,20 +57,6 @@ public class ReviewResponse {
     private LocalDateTime updatedAt;
 
     public static ReviewResponse from(Review review) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        List<String> grassConditions = new ArrayList<>();
-
-        if (review.getGrassConditions() != null && !review.getGrassConditions().isEmpty()) {
-            try {
-                grassConditions = objectMapper.readValue(
-                    review.getGrassConditions(),
-                    new TypeReference<List<String>>() {}
-                );
-            } catch (JsonProcessingException e) {
-                // JSON 파싱 실패 시 빈 리스트 사용
-            }
-        }
-
         return ReviewResponse.builder()
                 .reviewId(review.getReviewId())
                 .fieldId(review.getFieldId())
@@ -80,7 +65,7 @@ public class ReviewResponse {
                 .content(review.getContent())
                 .rating(review.getRating())
                 .grassType(review.getGrassType())
-                .grassConditions(grassConditions)
+                .grassConditions(review.getGrassConditions().getLabels())
                 .recommendedShoe(review.getRecommendedShoe())
                 .shoeLink(review.getShoeLink())
                 .createdAt(review.getCreatedAt())
@@ -88,21 +73,7 @@ public class ReviewResponse {
                 .build();
     }
 
-    public static ReviewResponse from(Review review, String userName) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        List<String> grassConditions = new ArrayList<>();
-
-        if (review.getGrassConditions() != null && !review.getGrassConditions().isEmpty()) {
-            try {
-                grassConditions = objectMapper.readValue(
-                    review.getGrassConditions(),
-                    new TypeReference<List<String>>() {}
-                );
-            } catch (JsonProcessingException e) {
-                // JSON 파싱 실패 시 빈 리스트 사용
-            }
-        }
-
+    public static ReviewResponse from(Review review, String userName, Long commentCount) {
         return ReviewResponse.builder()
                 .reviewId(review.getReviewId())
                 .fieldId(review.getFieldId())
@@ -111,9 +82,10 @@ public class ReviewResponse {
                 .content(review.getContent())
                 .rating(review.getRating())
                 .grassType(review.getGrassType())
-                .grassConditions(grassConditions)
+                .grassConditions(review.getGrassConditions().getLabels())
                 .recommendedShoe(review.getRecommendedShoe())
                 .shoeLink(review.getShoeLink())
+                .commentCount(commentCount)
                 .createdAt(review.getCreatedAt())
                 .updatedAt(review.getUpdatedAt())
                 .build();
@@ -0,0 +1,45 @@
+package com.community.back.global.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 페이지 응답")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "현재 페이지 항목")
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "42", nullable = true)
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    /**
+     * limit + 1 조회 결과로 페이지 구성
+     * @param rows size + 1개까지 조회한 결과
+     * @param size 페이지 크기
+     * @param mapper 항목 변환 함수
+     * @param cursor 마지막 항목의 커서 추출 함수
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                  Function<E, T> mapper, Function<E, String> cursor) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageResponse.<T>builder()
+                .items(page.stream().map(mapper).toList())
+                .nextCursor(hasNext ? cursor.apply(page.get(page.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -16,6 +16,7 @@ public enum ErrorCode {
     // Field related
     FIELD_NOT_FOUND(HttpStatus.NOT_FOUND, "FIELD_NOT_FOUND", "Field not found"),
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "INVALID_INPUT", "Invalid field data"),
+    FIELD_GEOCODING_PENDING(HttpStatus.CONFLICT, "FIELD_GEOCODING_PENDING", "Field coordinates are not resolved yet"),
 
     // Review related
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "REVIEW_NOT_FOUND", "Review not found"),
@@ -62,14 +62,15 @@ public class SecurityConfig {
                         // Swagger
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         // 관리자 전용 (더 구체적인 패턴을 먼저)
-                        .requestMatchers(HttpMethod.GET, "/fields/pending").hasRole("ADMIN")
-                        .requestMatchers(HttpMethod.PATCH, "/fields/*/approve").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/fields/pending", "/fields/pending/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.PATCH, "/fields/approve", "/fields/*/approve").hasRole("ADMIN")
                         // 축구장 조회 (GET)
                         .requestMatchers(HttpMethod.GET, "/fields", "/fields/**").permitAll()
                         // 리뷰 조회 (GET)
                         .requestMatchers(HttpMethod.GET, "/reviews/**").permitAll()
                         // 댓글 조회 (GET)
-                        .requestMatchers(HttpMethod.GET, "/comments/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/comments", "/comments/**").permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -24,6 +24,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtClaimsCache jwtClaimsCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -31,14 +32,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
-            log.info("JWT Token from request: {}", jwt != null ? "Present (length: " + jwt.length() + ")" : "Not present");
+            log.debug("JWT Token from request: {}", jwt != null ? "Present (length: " + jwt.length() + ")" : "Not present");
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-                String role = jwtTokenProvider.getRoleFromToken(jwt);
+            // 토큰당 한 번만 검증/파싱 (같은 토큰의 반복 요청은 캐시된 클레임 사용)
+            JwtPrincipal principal = StringUtils.hasText(jwt)
+                    ? jwtClaimsCache.getOrVerify(jwt, jwtTokenProvider::parse)
+                    : null;
 
-                log.info("Extracted from JWT - userId: {}, email: {}, role: {}", userId, email, role);
+            if (principal != null) {
+                String userId = principal.userId();
+                String role = principal.role();
+
+                log.debug("Extracted from JWT - userId: {}, role: {}", userId, role);
 
                 List<SimpleGrantedAuthority> authorities = new ArrayList<>();
                 if (role != null) {
@@ -50,8 +55,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.info("Set Authentication for user: {} with role: {}", userId, role);
-            } else {
+                log.debug("Set Authentication for user: {} with role: {}", userId, role);
+            } else if (jwt != null) {
                 log.warn("JWT validation failed or token is empty");
             }
         } catch (Exception ex) {
@@ -0,0 +1,104 @@
+package com.community.back.global.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 검증된 액세스 토큰 클레임 캐시
+ * - 같은 토큰으로 반복되는 요청은 서명 검증/JSON 파싱 없이 캐시된 JwtPrincipal을 사용
+ * - 키는 토큰 원문 대신 SHA-256 다이제스트 (서명이 다른 위조 토큰은 다른 키가 되어 다시 검증됨)
+ * - exp가 지난 항목은 조회 시 제거하고 다시 검증 (검증 실패 토큰은 저장하지 않음)
+ * - 조회는 ConcurrentHashMap에서 잠금 없이 처리 (인증된 모든 요청이 거치므로 전역 잠금을 두지 않음)
+ * - 크기 상한을 넘으면 한 스레드만 정리: 만료 항목을 먼저 지우고, 그래도 넘치면 임의 항목을 지워 상한의 90%까지 줄임
+ *   (접근 순서를 기록하지 않으므로 LRU가 아님, 지워진 토큰은 다음 요청에서 한 번 다시 검증)
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final ConcurrentHashMap<String, JwtPrincipal> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int maxSize;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtClaimsCache(MeterRegistry meterRegistry,
+                          @Value("${jwt.claims-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.hitCounter = meterRegistry.counter("jwt.claims.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.claims.cache.requests", "result", "miss");
+        meterRegistry.gauge("jwt.claims.cache.size", entries, map -> map.size());
+    }
+
+    /**
+     * 캐시된 클레임 반환, 없거나 만료되었으면 verifier로 검증한 뒤 저장
+     * @param verifier 토큰 검증/파싱 (실패 시 null)
+     * @return 검증된 클레임 (유효하지 않은 토큰이면 null)
+     */
+    public JwtPrincipal getOrVerify(String token, Function<String, JwtPrincipal> verifier) {
+        String key = digest(token);
+        Instant now = Instant.now();
+
+        JwtPrincipal cached = entries.get(key);
+        if (cached != null && cached.isExpired(now)) {
+            entries.remove(key, cached);
+            cached = null;
+        }
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        JwtPrincipal verified = verifier.apply(token);
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (verified != null && verified.expiresAt() != null && !verified.isExpired(now)) {
+            entries.put(key, verified);
+            if (entries.size() > maxSize) {
+                evict(now);
+            }
+        }
+        return verified;
+    }
+
+    /**
+     * 상한 초과 시 정리 (이미 다른 스레드가 정리 중이면 건너뜀)
+     */
+    private void evict(Instant now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            entries.values().removeIf(principal -> principal.isExpired(now));
+            int target = maxSize - maxSize / 10;
+            Iterator<String> keys = entries.keySet().iterator();
+            while (entries.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
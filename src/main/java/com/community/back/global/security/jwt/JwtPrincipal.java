@@ -0,0 +1,17 @@
+package com.community.back.global.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 클레임 (한 번 파싱한 결과를 불변 값으로 보관)
+ * @param userId 사용자 ID (sub)
+ * @param email 이메일
+ * @param role 권한 (없으면 null)
+ * @param expiresAt 만료 시각 (exp, 없으면 null)
+ */
+public record JwtPrincipal(String userId, String email, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -15,12 +15,17 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final Key key;
+    // 서명 키가 고정이므로 파서는 한 번만 생성 (불변, 스레드 안전)
+    private final JwtParser parser;
     private final long accessTokenValidityInMilliseconds;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-token-validity}") long accessTokenValidityInMilliseconds) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
     }
 
@@ -51,13 +56,19 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 서명/만료를 한 번 검증하고 클레임을 추출
+     * @return 검증된 클레임 (유효하지 않은 토큰이면 null)
+     */
+    public JwtPrincipal parse(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            return new JwtPrincipal(
+                    claims.getSubject(),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    expiration != null ? expiration.toInstant() : null);
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -66,34 +77,13 @@ public class JwtTokenProvider {
             log.error("Unsupported JWT token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
         }
-        return false;
-    }
-
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return null;
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("email", String.class);
-    }
-
-    public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("role", String.class);
+    public boolean validateToken(String token) {
+        return parse(token) != null;
     }
 }
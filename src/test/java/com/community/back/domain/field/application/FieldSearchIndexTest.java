@@ -0,0 +1,106 @@
+package com.community.back.domain.field.application;
+
+import com.community.back.domain.field.domain.Field;
+import com.community.back.domain.field.domain.FieldStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * FieldSearchIndex의 n-gram 후보 탐색, 부분 문자열 검증, 점수 순 정렬 검증
+ */
+class FieldSearchIndexTest {
+
+    private FieldSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FieldSearchIndex(null);
+        index.put(field(1L, "상암 풋살장", "서울시 마포구 월드컵로 240"));
+        index.put(field(2L, "상암", "서울시 마포구 상암동"));
+        index.put(field(3L, "마포 상암 구장", "서울시 마포구 성산동"));
+        index.put(field(4L, "잠실 축구장", "서울시 송파구 올림픽로 25"));
+        index.put(field(5L, "월드컵 보조경기장", "서울시 마포구 상암동 515"));
+    }
+
+    private static Field field(Long fieldId, String name, String address) {
+        Field field = Field.builder()
+                .name(name)
+                .address(address)
+                .grassType("인조잔디")
+                .shoeType("TF")
+                .status(FieldStatus.APPROVED)
+                .build();
+        ReflectionTestUtils.setField(field, "fieldId", fieldId);
+        return field;
+    }
+
+    @Test
+    void ranksExactThenPrefixThenNameThenAddressMatches() {
+        // 이름 일치(2) > 이름 접두(1) > 이름 포함(3) > 주소만 포함(5)
+        assertEquals(List.of(2L, 1L, 3L, 5L), index.search("상암"));
+    }
+
+    @Test
+    void breaksTiesByShorterNameThenId() {
+        index.put(field(6L, "상암 A구장", "서울시 마포구"));
+        index.put(field(7L, "상암 B구장", "서울시 마포구"));
+
+        // 접두 일치 중 이름이 짧은 1번, 같은 길이면 ID 순
+        assertEquals(List.of(2L, 1L, 6L, 7L, 3L, 5L), index.search("상암"));
+    }
+
+    @Test
+    void requiresWholeQueryAsSubstringNotJustSharedBigrams() {
+        // "상암"과 "암풋"의 bigram을 모두 가진 문서만 후보, 부분 문자열 검증으로 최종 확인
+        assertEquals(List.of(1L), index.search("상암풋살"));
+        // 각 bigram은 존재하지만 연속된 문자열이 없는 경우
+        assertEquals(List.of(), index.search("상암잠실"));
+    }
+
+    @Test
+    void ignoresCaseWhitespaceAndSymbols() {
+        index.put(field(8L, "Hongdae FC Arena", "서울시 마포구 와우산로"));
+
+        assertEquals(List.of(8L), index.search("  hongdae-fc "));
+        assertEquals(List.of(1L), index.search("상암 풋살"));
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        assertEquals(List.of(4L), index.search("잠"));
+        // 모두 이름 포함 일치이므로 짧은 이름, ID 순
+        assertEquals(List.of(1L, 4L, 3L, 5L), index.search("장"));
+    }
+
+    @Test
+    void emptyQueryReturnsNullToSkipFiltering() {
+        assertNull(index.search(null));
+        assertNull(index.search(""));
+        assertNull(index.search("   "));
+        assertNull(index.search("!?-"));
+    }
+
+    @Test
+    void unknownGramReturnsEmptyList() {
+        assertEquals(List.of(), index.search("부산"));
+        assertEquals(List.of(), index.search("뷁"));
+    }
+
+    @Test
+    void removeAndReplaceUpdatePostings() {
+        index.remove(2L);
+        assertEquals(List.of(1L, 3L, 5L), index.search("상암"));
+
+        // 이름 변경 후 다시 색인하면 이전 gram은 더 이상 매칭되지 않음
+        index.put(field(4L, "잠원 구장", "서울시 서초구"));
+        assertEquals(List.of(), index.search("잠실"));
+        assertEquals(List.of(4L), index.search("잠원"));
+        assertEquals(4, index.size());
+    }
+}
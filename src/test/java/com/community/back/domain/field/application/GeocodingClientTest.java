@@ -0,0 +1,149 @@
+package com.community.back.domain.field.application;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 지연/실패를 주입할 수 있는 로컬 대역 서버로 GeocodingClient의 타임아웃, 서킷 브레이커, 벌크헤드 동작 검증
+ */
+class GeocodingClientTest {
+
+    private static final String OK_BODY = "{\"status\":\"OK\",\"results\":[]}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger latencyMillis = new AtomicInteger();
+    private final AtomicInteger statusCode = new AtomicInteger(200);
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile CountDownLatch arrivals = new CountDownLatch(0);
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/geocode/json", exchange -> {
+            requestCount.incrementAndGet();
+            arrivals.countDown();
+            try {
+                Thread.sleep(latencyMillis.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = OK_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(statusCode.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private GeocodingClient client(Duration readTimeout, int maxConcurrentCalls,
+                                   int failureThreshold, Duration openDuration) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/geocode/json";
+        return new GeocodingClient(baseUrl, Duration.ofSeconds(1), readTimeout,
+                maxConcurrentCalls, failureThreshold, openDuration);
+    }
+
+    @Test
+    void returnsUpstreamBody() {
+        GeocodingClient client = client(Duration.ofSeconds(1), 2, 3, Duration.ofSeconds(10));
+
+        assertEquals(OK_BODY, client.geocode("서울시 마포구 월드컵로 240", "test-key"));
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void slowUpstreamFailsWithinReadTimeout() {
+        GeocodingClient client = client(Duration.ofMillis(200), 2, 3, Duration.ofSeconds(10));
+        latencyMillis.set(2000);
+
+        long start = System.nanoTime();
+        assertThrows(IllegalStateException.class, () -> client.geocode("주소", "test-key"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 1500, "timed out after " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailuresAndRecoversAfterTrialCall() throws Exception {
+        GeocodingClient client = client(Duration.ofSeconds(1), 2, 3, Duration.ofMillis(200));
+        statusCode.set(503);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> client.geocode("주소", "test-key"));
+        }
+        assertTrue(client.isCircuitOpen());
+
+        // 서킷이 열린 동안에는 대역 서버까지 요청이 가지 않음
+        assertThrows(GeocodingClient.RejectedException.class, () -> client.geocode("주소", "test-key"));
+        assertEquals(3, requestCount.get());
+
+        Thread.sleep(300);
+        statusCode.set(200);
+
+        assertEquals(OK_BODY, client.geocode("주소", "test-key"));
+        assertFalse(client.isCircuitOpen());
+        assertEquals(4, requestCount.get());
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        GeocodingClient client = client(Duration.ofSeconds(1), 2, 2, Duration.ofSeconds(10));
+        statusCode.set(400);
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalStateException.class, () -> client.geocode("주소", "test-key"));
+        }
+
+        assertFalse(client.isCircuitOpen());
+        assertEquals(5, requestCount.get());
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondConcurrencyLimit() throws Exception {
+        GeocodingClient client = client(Duration.ofSeconds(2), 2, 3, Duration.ofSeconds(10));
+        latencyMillis.set(500);
+        arrivals = new CountDownLatch(2);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> client.geocode("주소1", "test-key"));
+            callers.submit(() -> client.geocode("주소2", "test-key"));
+            assertTrue(arrivals.await(2, TimeUnit.SECONDS));
+
+            long start = System.nanoTime();
+            assertThrows(GeocodingClient.RejectedException.class, () -> client.geocode("주소3", "test-key"));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+        } finally {
+            callers.shutdown();
+            assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, requestCount.get());
+    }
+}
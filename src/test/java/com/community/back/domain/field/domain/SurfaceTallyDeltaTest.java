@@ -0,0 +1,106 @@
+package com.community.back.domain.field.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SurfaceTallyDelta의 증감분 합산, 상쇄, 작성 후 삭제 시 0으로 돌아오는지, 저장 형식 왕복 검증
+ */
+class SurfaceTallyDeltaTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2025, 1, 10, 12, 0);
+    private static final LocalDateTime MAY = LocalDateTime.of(2025, 5, 3, 9, 30);
+
+    private static SurfaceTallyDelta.Key key(SurfaceAttribute attribute, String value) {
+        return new SurfaceTallyDelta.Key(attribute, value);
+    }
+
+    @Test
+    void reviewAddsOneToEachAttributeValue() {
+        SurfaceTallyDelta delta = SurfaceTallyDelta.ofReview("AG", List.of("딱딱함", " 잔디 짧음 "), "TF", JAN, 1);
+
+        Map<SurfaceTallyDelta.Key, SurfaceTallyDelta.Change> changes = delta.getChanges();
+        assertEquals(4, changes.size());
+        double weight = SurfaceTallyDelta.weightAt(JAN);
+        assertEquals(new SurfaceTallyDelta.Change(1, weight), changes.get(key(SurfaceAttribute.GRASS_TYPE, "AG")));
+        assertEquals(new SurfaceTallyDelta.Change(1, weight),
+                changes.get(key(SurfaceAttribute.GRASS_CONDITION, "잔디 짧음")));
+        assertEquals(new SurfaceTallyDelta.Change(1, weight), changes.get(key(SurfaceAttribute.RECOMMENDED_SHOE, "TF")));
+    }
+
+    @Test
+    void mergeSumsCountsAndWeightsPerKey() {
+        SurfaceTallyDelta delta = SurfaceTallyDelta.ofReview("AG", List.of("딱딱함"), "TF", JAN, 1)
+                .merge(SurfaceTallyDelta.ofReview("AG", List.of(), "FG", MAY, 1));
+
+        assertEquals(new SurfaceTallyDelta.Change(2, SurfaceTallyDelta.weightAt(JAN) + SurfaceTallyDelta.weightAt(MAY)),
+                delta.getChanges().get(key(SurfaceAttribute.GRASS_TYPE, "AG")));
+        assertEquals(1, delta.getChanges().get(key(SurfaceAttribute.RECOMMENDED_SHOE, "FG")).count());
+        assertEquals(1, delta.getChanges().get(key(SurfaceAttribute.GRASS_CONDITION, "딱딱함")).count());
+    }
+
+    @Test
+    void updateCancelsUnchangedValues() {
+        // 수정: 이전 값 제거 + 새 값 추가 (작성 시각이 같으므로 바뀌지 않은 값은 상쇄)
+        SurfaceTallyDelta delta = SurfaceTallyDelta.ofReview("AG", List.of("딱딱함"), "TF", JAN, -1)
+                .merge(SurfaceTallyDelta.ofReview("AG", List.of("미끄러움"), "TF", JAN, 1));
+
+        assertEquals(Map.of(
+                key(SurfaceAttribute.GRASS_CONDITION, "딱딱함"),
+                new SurfaceTallyDelta.Change(-1, -SurfaceTallyDelta.weightAt(JAN)),
+                key(SurfaceAttribute.GRASS_CONDITION, "미끄러움"),
+                new SurfaceTallyDelta.Change(1, SurfaceTallyDelta.weightAt(JAN))), delta.getChanges());
+    }
+
+    @Test
+    void addingThenRemovingReviewsReturnsToZero() {
+        // 서로 다른 가중치를 섞어 더하고 다른 순서로 빼도 부동소수점 오차가 남지 않아야 함
+        LocalDateTime[] createdAts = {JAN, MAY, JAN.plusDays(17), MAY.plusHours(5)};
+        SurfaceTallyDelta delta = new SurfaceTallyDelta();
+        for (LocalDateTime createdAt : createdAts) {
+            delta.merge(SurfaceTallyDelta.ofReview("AG", List.of("딱딱함"), "TF", createdAt, 1));
+        }
+        for (int i = createdAts.length - 1; i >= 0; i -= 2) {
+            delta.merge(SurfaceTallyDelta.ofReview("AG", List.of("딱딱함"), "TF", createdAts[i], -1));
+        }
+        for (int i = 0; i < createdAts.length; i += 2) {
+            delta.merge(SurfaceTallyDelta.ofReview("AG", List.of("딱딱함"), "TF", createdAts[i], -1));
+        }
+
+        assertTrue(delta.isEmpty());
+    }
+
+    @Test
+    void storedDeltaRoundTripsExactly() {
+        SurfaceTallyDeltaConverter converter = new SurfaceTallyDeltaConverter();
+        SurfaceTallyDelta delta = SurfaceTallyDelta.ofReview("AG", List.of("딱딱함"), "TF", JAN, -1)
+                .merge(SurfaceTallyDelta.ofReview("천연잔디", List.of("물 고임"), "FG", MAY, 1));
+
+        SurfaceTallyDelta restored = converter.convertToEntityAttribute(converter.convertToDatabaseColumn(delta));
+
+        assertEquals(delta.getChanges(), restored.getChanges());
+        // 저장된 변경분을 되돌려도 정확히 0이 됨
+        assertTrue(restored.merge(SurfaceTallyDelta.ofReview("AG", List.of("딱딱함"), "TF", JAN, 1))
+                .merge(SurfaceTallyDelta.ofReview("천연잔디", List.of("물 고임"), "FG", MAY, -1)).isEmpty());
+    }
+
+    @Test
+    void blankValuesAreIgnored() {
+        SurfaceTallyDelta delta = SurfaceTallyDelta.ofReview(" ", null, null, JAN, 1);
+
+        assertTrue(delta.isEmpty());
+    }
+
+    @Test
+    void laterReviewsWeighMore() {
+        assertTrue(SurfaceTallyDelta.weightAt(MAY) > SurfaceTallyDelta.weightAt(JAN));
+        // 90일(TAU) 차이는 e배
+        assertEquals(Math.E, SurfaceTallyDelta.weightAt(JAN.plusDays(90)) / SurfaceTallyDelta.weightAt(JAN), 1e-9);
+    }
+}
@@ -0,0 +1,107 @@
+package com.community.back.domain.review.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 잔디 상태 태그 사전의 비트마스크 왕복, 사전에 없는 라벨 처리, 고정 태그 목록 검증
+ */
+class GrassConditionsTest {
+
+    private GrassConditionDictionary dictionary;
+    private GrassConditionDictionary previous;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = GrassConditionDictionary.of(Map.of(0, "딱딱함", 1, "잔디 짧음", 2, "미끄러움"));
+        previous = GrassConditionDictionary.current();
+        GrassConditionDictionary.install(dictionary);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GrassConditionDictionary.install(previous);
+    }
+
+    @Test
+    void labelsRoundTripThroughMaskInDictionaryOrder() {
+        GrassConditions encoded = GrassConditions.ofLabels(List.of(" 미끄러움", "딱딱함", "딱딱함"));
+
+        assertTrue(encoded.isMapped());
+        assertEquals(0b101L, encoded.getMask());
+        assertEquals(List.of("딱딱함", "미끄러움"), encoded.getLabels());
+        assertEquals(encoded, GrassConditions.ofMask(encoded.getMask()));
+    }
+
+    @Test
+    void decodingReusesCachedInstance() {
+        assertSame(GrassConditions.ofMask(0b011L), GrassConditions.ofMask(0b011L));
+        assertSame(GrassConditions.EMPTY, GrassConditions.ofMask(0L));
+        assertSame(GrassConditions.EMPTY, GrassConditions.ofLabels(List.of()));
+        assertSame(GrassConditions.EMPTY, GrassConditions.ofLabels(null));
+    }
+
+    @Test
+    void unknownLabelKeepsAllLabelsWithoutMask() {
+        GrassConditions encoded = GrassConditions.ofLabels(List.of("딱딱함", "물 고임", " ", "물 고임"));
+
+        assertFalse(encoded.isMapped());
+        assertEquals(List.of("딱딱함", "물 고임"), encoded.getLabels());
+        assertEquals(null, new GrassConditionsConverter().convertToDatabaseColumn(encoded));
+    }
+
+    @Test
+    void unknownBitIsSkipped() {
+        assertEquals(List.of("딱딱함"), GrassConditions.ofMask(0b1001L).getLabels());
+    }
+
+    @Test
+    void defaultDictionaryIsTheFixedTagList() {
+        GrassConditionDictionary defaults = GrassConditionDictionary.DEFAULT;
+
+        assertEquals(GrassConditionTag.values().length, defaults.size());
+        for (GrassConditionTag tag : GrassConditionTag.values()) {
+            assertEquals(tag.getBit(), defaults.bitOf(tag.getLabel()));
+        }
+        // 목록에 없는 라벨은 사전에 추가되지 않고 기존 컬럼용 값으로 남음
+        assertFalse(defaults.encode(List.of("딱딱함", "아무 말")).isMapped());
+        assertEquals(-1, defaults.bitOf("아무 말"));
+        assertThrows(IllegalArgumentException.class,
+                () -> GrassConditionDictionary.of(Map.of(0, "딱딱함", 1, "딱딱함")));
+    }
+
+    @Test
+    void fullDictionaryRoundTripsAllBits() {
+        Map<Integer, String> labelsByBit = new HashMap<>();
+        for (int bit = 0; bit < GrassConditionDictionary.MAX_TAGS; bit++) {
+            labelsByBit.put(bit, "tag" + bit);
+        }
+        GrassConditionDictionary full = GrassConditionDictionary.of(labelsByBit);
+
+        long all = -1L;
+        assertEquals(GrassConditionDictionary.MAX_TAGS, full.decode(all).getLabels().size());
+        assertEquals(all, full.encode(full.decode(all).getLabels()).getMask());
+    }
+
+    @Test
+    void legacyLabelsAreReturnedAsStored() {
+        GrassConditions legacy = GrassConditions.ofLegacy(Arrays.asList("잔디 김", "딱딱함"));
+
+        assertFalse(legacy.isMapped());
+        assertEquals(List.of("잔디 김", "딱딱함"), legacy.getLabels());
+        assertSame(GrassConditions.EMPTY, GrassConditions.ofLegacy(null));
+        assertEquals(List.of(), new GrassConditionLabelsConverter().convertToEntityAttribute("not json"));
+    }
+}